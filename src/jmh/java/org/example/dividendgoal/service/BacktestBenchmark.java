@@ -0,0 +1,96 @@
+package org.example.dividendgoal.service;
+
+import org.example.dividendgoal.catalog.DividendHistoryIndex;
+import org.example.dividendgoal.catalog.StockCatalog;
+import org.example.dividendgoal.model.Stock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backtests over a synthetic catalog of 10,000 tickers × 30 years of history.
+ * {@code buildCatalog} is the one-off load cost (all indexes); the queries should not depend
+ * on the span. {@code everyTickerGrowth} sweeps the whole index, the largest
+ * portfolio the API accepts is {@link BacktestService#MAX_HOLDINGS} tickers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BacktestBenchmark {
+
+    private static final int TICKERS = 10_000;
+    private static final int YEARS = 30;
+    private static final int FIRST_YEAR = 1995;
+
+    private final BacktestService service = new BacktestService(null);
+    private List<Stock> stocks;
+    private StockCatalog catalog;
+    private List<BacktestService.HoldingInput> largestPortfolio;
+    private List<BacktestService.HoldingInput> oneTicker;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        stocks = new ArrayList<>(TICKERS);
+        largestPortfolio = new ArrayList<>(BacktestService.MAX_HOLDINGS);
+        for (int i = 0; i < TICKERS; i++) {
+            Stock stock = new Stock();
+            stock.setTicker("T" + i);
+            stock.setSector("Sector " + i % 11);
+            stock.setYield(1 + random.nextDouble() * 8);
+            List<Stock.DividendRecord> history = new ArrayList<>(YEARS);
+            double dividend = 0.5 + random.nextDouble() * 2;
+            for (int year = 0; year < YEARS; year++) {
+                history.add(new Stock.DividendRecord(FIRST_YEAR + year, dividend));
+                dividend *= 1 + random.nextDouble(-0.05, 0.12);
+            }
+            stock.setDividendHistory(history);
+            stocks.add(stock);
+            if (i % (TICKERS / BacktestService.MAX_HOLDINGS) == 0) {
+                largestPortfolio.add(new BacktestService.HoldingInput(stock.getTicker(), 1_000));
+            }
+        }
+        catalog = StockCatalog.of(stocks);
+        oneTicker = List.of(new BacktestService.HoldingInput("T5000", 10_000));
+    }
+
+    @Benchmark
+    public StockCatalog buildCatalog() {
+        return StockCatalog.of(stocks);
+    }
+
+    @Benchmark
+    public double singleTicker() {
+        return service.backtest(catalog, oneTicker, FIRST_YEAR, null, true).finalValue();
+    }
+
+    @Benchmark
+    public double largestPortfolioFullSpan() {
+        return service.backtest(catalog, largestPortfolio, FIRST_YEAR, null, true).finalValue();
+    }
+
+    @Benchmark
+    public double largestPortfolioShortSpan() {
+        return service.backtest(catalog, largestPortfolio, FIRST_YEAR + YEARS - 3, null, true).finalValue();
+    }
+
+    @Benchmark
+    public double everyTickerGrowth() {
+        DividendHistoryIndex history = catalog.getDividendHistory();
+        double sum = 0;
+        for (int ordinal = 0; ordinal < TICKERS; ordinal++) {
+            sum += history.growth(ordinal, FIRST_YEAR, FIRST_YEAR + YEARS - 1);
+        }
+        return sum;
+    }
+}
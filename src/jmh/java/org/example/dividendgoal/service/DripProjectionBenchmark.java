@@ -0,0 +1,40 @@
+package org.example.dividendgoal.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DRIP projection engine in steady state. Runs with the gc profiler (see the
+ * jmh block in build.gradle): {@code gc.alloc.rate.norm} should read ~0 B/op
+ * for both benchmarks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DripProjectionBenchmark {
+
+    @Param({ "10", "50" })
+    public int years;
+
+    private final DripProjectionEngine engine = new DripProjectionEngine();
+    private final DripProjectionEngine.Schedule schedule = new DripProjectionEngine.Schedule();
+
+    @Benchmark
+    public double callerBuffer() {
+        engine.project(100_000, 3.5, 7.0, 4, 500, DividendCalculationService.DIVIDEND_TAX_RATE, years, schedule);
+        return schedule.capital(years);
+    }
+
+    @Benchmark
+    public double threadLocalBuffer() {
+        return engine.project(100_000, 3.5, 7.0, 12, 500, DividendCalculationService.DIVIDEND_TAX_RATE, years)
+                .capital(years);
+    }
+}
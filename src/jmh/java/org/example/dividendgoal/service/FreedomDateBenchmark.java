@@ -0,0 +1,69 @@
+package org.example.dividendgoal.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-form freedom-date solver vs the previous month-by-month loop.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FreedomDateBenchmark {
+
+    // reachable: ~5 years; unreachable: hits the 100-year cap
+    @Param({ "reachable", "unreachable" })
+    public String scenario;
+
+    private final DividendCalculationService service = new DividendCalculationService();
+    private double target;
+    private double yield;
+    private double contribution;
+
+    @Setup
+    public void setUp() {
+        boolean reachable = scenario.equals("reachable");
+        target = reachable ? 1_000 : 1_000_000;
+        yield = reachable ? 4.0 : 3.0;
+        contribution = reachable ? 3_000 : 1;
+    }
+
+    @Benchmark
+    public int closedForm() {
+        return service.monthsToFreedom(target, yield, contribution);
+    }
+
+    @Benchmark
+    public java.time.LocalDate closedFormWithDate() {
+        return service.calculateFreedomDate(target, yield, contribution);
+    }
+
+    @Benchmark
+    public java.time.LocalDate iterativeLoop() {
+        // The replaced implementation, including its per-month LocalDate.plusMonths
+        double monthlyYieldRate = yield / 100.0 / 12.0;
+        double currentMonthlyIncome = 0.0;
+        double investedCapital = 0.0;
+        java.time.LocalDate date = java.time.LocalDate.now();
+        int months = 0;
+        while (currentMonthlyIncome < target) {
+            investedCapital += contribution;
+            investedCapital += investedCapital * monthlyYieldRate;
+            currentMonthlyIncome = investedCapital * monthlyYieldRate;
+            date = date.plusMonths(1);
+            months++;
+            if (months >= DividendCalculationService.MAX_FREEDOM_MONTHS)
+                break;
+        }
+        return date;
+    }
+}
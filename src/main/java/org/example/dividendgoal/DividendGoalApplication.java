@@ -3,9 +3,11 @@ package org.example.dividendgoal;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching // [Performance] Enable server-side caching
+@EnableScheduling
 public class DividendGoalApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,64 @@
+package org.example.dividendgoal.catalog;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.dividendgoal.model.Stock;
+import org.example.dividendgoal.util.Compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * [Performance] Slim, content-addressed JSON of the stock universe, served as
+ * {@code /api/catalog.<hash>.json} for client-side pickers; the portfolio page
+ * gets the current URL as {@code catalogUrl} and filters it locally.
+ *
+ * Built by StockDataService on the reload thread together with the catalog it
+ * describes, so requests only ever hand out finished bytes. Only the columns a
+ * picker needs are included: no descriptions, no dividend history.
+ *
+ * @param hash first 16 hex digits of the SHA-256 of {@code json}
+ */
+public record CatalogJson(String catalogVersion, String hash, String path, byte[] json, byte[] gzip) {
+
+    static final List<String> FIELDS = List.of("ticker", "name", "sector", "frequency", "yield",
+            "dividendGrowth");
+
+    public static CatalogJson of(StockCatalog catalog, JsonFactory jsonFactory) {
+        byte[] json = serialize(catalog.getStocks(), jsonFactory);
+        String hash = Compression.sha256Hex(json).substring(0, 16);
+        return new CatalogJson(catalog.getVersion(), hash, "/api/catalog." + hash + ".json", json,
+                Compression.gzip(json));
+    }
+
+    // Rows as arrays in FIELDS order: the keys are written once instead of once per stock
+    private static byte[] serialize(List<Stock> stocks, JsonFactory jsonFactory) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(stocks.size() * 64 + 64);
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("fields");
+            for (String field : FIELDS) {
+                generator.writeString(field);
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("stocks");
+            for (Stock stock : stocks) {
+                generator.writeStartArray();
+                generator.writeString(stock.getTicker());
+                generator.writeString(stock.getName());
+                generator.writeString(stock.getSector());
+                generator.writeString(stock.getFrequency());
+                generator.writeNumber(stock.getYield());
+                generator.writeNumber(stock.getDividendGrowth());
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
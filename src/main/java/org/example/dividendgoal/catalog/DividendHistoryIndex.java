@@ -0,0 +1,121 @@
+package org.example.dividendgoal.catalog;
+
+import org.example.dividendgoal.model.Stock;
+
+import java.time.Year;
+import java.util.List;
+
+/**
+ * [Performance] Dividend histories packed into one contiguous array for
+ * backtests.
+ *
+ * Each stock owns a run of consecutive years from its first to its last
+ * recorded year (a missing year repeats the previous dividend). The run holds
+ * the cumulative growth since the first paying year, i.e. the prefix product
+ * of the annual growth factors, so the growth between any two years is a
+ * single division.
+ *
+ * Only years in {@link #MIN_YEAR}..{@link #maxYear()} are indexed, which caps
+ * a run at about a century however the dataset is mistyped; records outside
+ * the window are ignored rather than failing the catalog build.
+ */
+public final class DividendHistoryIndex {
+
+    /** Earliest dividend year accepted, by the index and by the JSON loader. */
+    public static final int MIN_YEAR = 1900;
+
+    private final int[] firstYear;
+    private final int[] offset;
+    private final int[] length;
+    private final double[] cumulativeGrowth;
+
+    DividendHistoryIndex(List<Stock> stocks) {
+        int n = stocks.size();
+        firstYear = new int[n];
+        offset = new int[n];
+        length = new int[n];
+
+        int maxYear = maxYear();
+        long total = 0;
+        Stock.DividendRecord[][] sorted = new Stock.DividendRecord[n][];
+        for (int i = 0; i < n; i++) {
+            List<Stock.DividendRecord> history = stocks.get(i).getDividendHistory();
+            if (history == null || history.isEmpty()) {
+                continue;
+            }
+            Stock.DividendRecord[] records = history.stream()
+                    .filter(record -> record.getYear() >= MIN_YEAR && record.getYear() <= maxYear)
+                    .sorted((a, b) -> Integer.compare(a.getYear(), b.getYear()))
+                    .toArray(Stock.DividendRecord[]::new);
+            int span = records.length == 0 ? 0 : records[records.length - 1].getYear() - records[0].getYear() + 1;
+            if (span == 0 || total + span > Integer.MAX_VALUE - 8) {
+                continue;
+            }
+            sorted[i] = records;
+            firstYear[i] = records[0].getYear();
+            length[i] = span;
+            offset[i] = (int) total;
+            total += span;
+        }
+
+        cumulativeGrowth = new double[(int) total];
+        for (int i = 0; i < n; i++) {
+            if (sorted[i] == null) {
+                continue;
+            }
+            double base = 0;
+            double dividend = 0;
+            int next = 0;
+            for (int k = 0; k < length[i]; k++) {
+                int year = firstYear[i] + k;
+                // First record of a year wins; gaps carry the previous dividend forward
+                if (next < sorted[i].length && sorted[i][next].getYear() == year) {
+                    dividend = sorted[i][next].getDividendPerShare();
+                    while (next < sorted[i].length && sorted[i][next].getYear() == year) {
+                        next++;
+                    }
+                }
+                if (base == 0 && dividend > 0) {
+                    base = dividend;
+                }
+                cumulativeGrowth[offset[i] + k] = base == 0 ? 0 : dividend / base;
+            }
+        }
+    }
+
+    /** Latest dividend year accepted: next year, for datasets that already list a declared dividend. */
+    public static int maxYear() {
+        return Year.now().getValue() + 1;
+    }
+
+    public boolean hasHistory(int ordinal) {
+        return length[ordinal] > 0;
+    }
+
+    /** First recorded year, or 0 without history. */
+    public int firstYear(int ordinal) {
+        return firstYear[ordinal];
+    }
+
+    /** Last recorded year, or -1 without history. */
+    public int lastYear(int ordinal) {
+        return firstYear[ordinal] + length[ordinal] - 1;
+    }
+
+    /**
+     * Dividend in {@code endYear} relative to {@code startYear}; NaN when either
+     * year is outside the history or nothing was paid in {@code startYear}.
+     */
+    public double growth(int ordinal, int startYear, int endYear) {
+        int first = firstYear[ordinal];
+        int len = length[ordinal];
+        if (startYear < first || endYear < first || startYear - first >= len || endYear - first >= len) {
+            return Double.NaN;
+        }
+        double start = cumulativeGrowth[offset[ordinal] + startYear - first];
+        if (start == 0) {
+            return Double.NaN;
+        }
+        return cumulativeGrowth[offset[ordinal] + endYear - first] / start;
+    }
+}
@@ -0,0 +1,215 @@
+package org.example.dividendgoal.catalog;
+
+import org.example.dividendgoal.model.Stock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * [Performance] Bitmap indexes over the catalog, built once per load.
+ *
+ * Every categorical value (risk, sector, frequency, cut history) owns a
+ * {@link BitSet} of ordinals, and yield / growth have cumulative "at least
+ * this band edge" bitmaps. A query is a handful of ANDs that narrow the
+ * candidates to the right bands; only the survivors are checked against the
+ * exact bounds, and paging walks a precomputed ranking instead of sorting.
+ */
+public final class ScreenerIndex {
+
+    private static final double[] YIELD_EDGES = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 10, 12, 15, 20 };
+    private static final double[] GROWTH_EDGES = { -20, -10, -5, 0, 2, 4, 6, 8, 10, 15, 20 };
+
+    private final List<Stock> stocks;
+    private final StockMetrics metrics;
+    private final BitSet all;
+    private final BitSet[] byRisk = new BitSet[3];
+    private final BitSet[] bySector;
+    private final BitSet[] byFrequency;
+    private final BitSet cutHistory;
+    private final BitSet withPayoutRatio;
+    private final BitSet[] yieldAtLeast;
+    private final BitSet[] growthAtLeast;
+    private final int[] byTicker;
+
+    ScreenerIndex(List<Stock> stocks, StockMetrics metrics) {
+        this.stocks = stocks;
+        this.metrics = metrics;
+        int n = stocks.size();
+
+        all = new BitSet(n);
+        all.set(0, n);
+        Arrays.setAll(byRisk, i -> new BitSet(n));
+        bySector = new BitSet[metrics.sectorCount()];
+        Arrays.setAll(bySector, i -> new BitSet(n));
+        byFrequency = new BitSet[metrics.frequencyCount()];
+        Arrays.setAll(byFrequency, i -> new BitSet(n));
+        cutHistory = new BitSet(n);
+        withPayoutRatio = new BitSet(n);
+        yieldAtLeast = new BitSet[YIELD_EDGES.length];
+        Arrays.setAll(yieldAtLeast, i -> new BitSet(n));
+        growthAtLeast = new BitSet[GROWTH_EDGES.length];
+        Arrays.setAll(growthAtLeast, i -> new BitSet(n));
+
+        for (int i = 0; i < n; i++) {
+            byte risk = metrics.riskCode(i);
+            if (risk != StockMetrics.NONE) {
+                byRisk[risk].set(i);
+            }
+            byte sector = metrics.sectorCode(i);
+            if (sector != StockMetrics.NONE) {
+                bySector[Byte.toUnsignedInt(sector)].set(i);
+            }
+            byte frequency = metrics.frequencyCode(i);
+            if (frequency != StockMetrics.NONE) {
+                byFrequency[Byte.toUnsignedInt(frequency)].set(i);
+            }
+            if (metrics.dividendCutHistory(i)) {
+                cutHistory.set(i);
+            }
+            if (metrics.payoutRatio(i) > 0) {
+                withPayoutRatio.set(i);
+            }
+            markBands(YIELD_EDGES, yieldAtLeast, metrics.yield(i), i);
+            markBands(GROWTH_EDGES, growthAtLeast, metrics.dividendGrowth(i), i);
+        }
+
+        Integer[] order = new Integer[n];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparing(i -> stocks.get(i).getTicker()));
+        byTicker = Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Runs the query and returns one page of matches plus the total match count.
+     *
+     * @throws IllegalArgumentException for an unknown risk, sort or order value
+     */
+    public Result screen(ScreenerQuery query) {
+        ScreenerQuery.Sort sort = ScreenerQuery.Sort.parse(query.getSort());
+        boolean ascending = query.isAscending(sort);
+
+        BitSet matches = (BitSet) all.clone();
+        intersect(matches, query.getRisk(), value -> {
+            byte code = StockMetrics.riskCodeOf(value);
+            if (code == StockMetrics.NONE) {
+                throw new IllegalArgumentException("Unknown risk: " + value);
+            }
+            return byRisk[code];
+        });
+        intersect(matches, query.getSector(), value -> categoryBits(bySector, metrics.sectorCodeOf(value)));
+        intersect(matches, query.getFrequency(), value -> categoryBits(byFrequency, metrics.frequencyCodeOf(value)));
+        if (query.getCutHistory() != null) {
+            if (query.getCutHistory()) {
+                matches.and(cutHistory);
+            } else {
+                matches.andNot(cutHistory);
+            }
+        }
+        if (query.getMaxPayoutRatio() != null) {
+            matches.and(withPayoutRatio);
+        }
+        narrowToBands(matches, YIELD_EDGES, yieldAtLeast, query.getMinYield(), query.getMaxYield());
+        narrowToBands(matches, GROWTH_EDGES, growthAtLeast, query.getMinGrowth(), query.getMaxGrowth());
+
+        // Exact bounds only for the candidates that survived the bitmaps
+        if (hasNumericBounds(query)) {
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                if (!withinBounds(query, i)) {
+                    matches.clear(i);
+                }
+            }
+        }
+
+        int total = matches.cardinality();
+        int size = Math.max(0, query.getSize());
+        long offset = Math.max(0L, (long) query.getPage()) * size;
+        List<Stock> page = new ArrayList<>(Math.min(size, total));
+        int seen = 0;
+        int n = stocks.size();
+        for (int rank = 0; rank < n && page.size() < size; rank++) {
+            int position = ascending ? n - 1 - rank : rank;
+            int ordinal = switch (sort) {
+                case YIELD -> metrics.rankedByYield(position);
+                case GROWTH -> metrics.rankedByDividendGrowth(position);
+                // Ticker ranking is stored A-Z, so flip the direction
+                case TICKER -> byTicker[n - 1 - position];
+            };
+            if (matches.get(ordinal) && seen++ >= offset) {
+                page.add(stocks.get(ordinal));
+            }
+        }
+        return new Result(total, page);
+    }
+
+    public record Result(int total, List<Stock> stocks) {
+    }
+
+    private static void markBands(double[] edges, BitSet[] atLeast, double value, int ordinal) {
+        for (int b = 0; b < edges.length && value >= edges[b]; b++) {
+            atLeast[b].set(ordinal);
+        }
+    }
+
+    // Narrows to the bands that can hold [min, max]; boundary bands still need the exact check
+    private static void narrowToBands(BitSet matches, double[] edges, BitSet[] atLeast, Double min, Double max) {
+        if (min != null) {
+            int lower = -1;
+            while (lower + 1 < edges.length && edges[lower + 1] <= min) {
+                lower++;
+            }
+            if (lower >= 0) {
+                matches.and(atLeast[lower]);
+            }
+        }
+        if (max != null) {
+            int upper = 0;
+            while (upper < edges.length && edges[upper] <= max) {
+                upper++;
+            }
+            if (upper < edges.length) {
+                matches.andNot(atLeast[upper]);
+            }
+        }
+    }
+
+    private static boolean hasNumericBounds(ScreenerQuery query) {
+        return query.getMinYield() != null || query.getMaxYield() != null || query.getMinGrowth() != null
+                || query.getMaxGrowth() != null || query.getMaxPayoutRatio() != null;
+    }
+
+    private boolean withinBounds(ScreenerQuery query, int ordinal) {
+        double yield = metrics.yield(ordinal);
+        double growth = metrics.dividendGrowth(ordinal);
+        return (query.getMinYield() == null || yield >= query.getMinYield())
+                && (query.getMaxYield() == null || yield <= query.getMaxYield())
+                && (query.getMinGrowth() == null || growth >= query.getMinGrowth())
+                && (query.getMaxGrowth() == null || growth <= query.getMaxGrowth())
+                && (query.getMaxPayoutRatio() == null || metrics.payoutRatio(ordinal) <= query.getMaxPayoutRatio());
+    }
+
+    private BitSet categoryBits(BitSet[] index, byte code) {
+        return code == StockMetrics.NONE ? new BitSet() : index[Byte.toUnsignedInt(code)];
+    }
+
+    // OR of the requested values, ANDed into the matches; a filter with no usable values is ignored
+    private static void intersect(BitSet matches, Set<String> values, Function<String, BitSet> lookup) {
+        if (values == null) {
+            return;
+        }
+        BitSet union = null;
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                union = union == null ? new BitSet() : union;
+                union.or(lookup.apply(value.trim()));
+            }
+        }
+        if (union != null) {
+            matches.and(union);
+        }
+    }
+}
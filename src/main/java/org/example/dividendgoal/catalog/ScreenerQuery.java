@@ -0,0 +1,160 @@
+package org.example.dividendgoal.catalog;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Screener filters, bound straight from the {@code /api/screener} query string.
+ * Unset (null or empty) filters match everything.
+ */
+public class ScreenerQuery {
+
+    public enum Sort {
+        YIELD, GROWTH, TICKER;
+
+        static Sort parse(String value) {
+            if (value == null || value.isBlank()) {
+                return YIELD;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.US));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown sort: " + value);
+            }
+        }
+    }
+
+    private Set<String> risk;
+    private Set<String> sector;
+    private Set<String> frequency;
+    private Double minYield;
+    private Double maxYield;
+    private Double minGrowth;
+    private Double maxGrowth;
+    // Stocks without payout data are excluded once this is set
+    private Double maxPayoutRatio;
+    private Boolean cutHistory;
+    private String sort;
+    private String order;
+    private int page;
+    private int size = 20;
+
+    public Set<String> getRisk() {
+        return risk;
+    }
+
+    public void setRisk(Set<String> risk) {
+        this.risk = risk;
+    }
+
+    public Set<String> getSector() {
+        return sector;
+    }
+
+    public void setSector(Set<String> sector) {
+        this.sector = sector;
+    }
+
+    public Set<String> getFrequency() {
+        return frequency;
+    }
+
+    public void setFrequency(Set<String> frequency) {
+        this.frequency = frequency;
+    }
+
+    public Double getMinYield() {
+        return minYield;
+    }
+
+    public void setMinYield(Double minYield) {
+        this.minYield = minYield;
+    }
+
+    public Double getMaxYield() {
+        return maxYield;
+    }
+
+    public void setMaxYield(Double maxYield) {
+        this.maxYield = maxYield;
+    }
+
+    public Double getMinGrowth() {
+        return minGrowth;
+    }
+
+    public void setMinGrowth(Double minGrowth) {
+        this.minGrowth = minGrowth;
+    }
+
+    public Double getMaxGrowth() {
+        return maxGrowth;
+    }
+
+    public void setMaxGrowth(Double maxGrowth) {
+        this.maxGrowth = maxGrowth;
+    }
+
+    public Double getMaxPayoutRatio() {
+        return maxPayoutRatio;
+    }
+
+    public void setMaxPayoutRatio(Double maxPayoutRatio) {
+        this.maxPayoutRatio = maxPayoutRatio;
+    }
+
+    public Boolean getCutHistory() {
+        return cutHistory;
+    }
+
+    public void setCutHistory(Boolean cutHistory) {
+        this.cutHistory = cutHistory;
+    }
+
+    /** {@code yield} (default), {@code growth} or {@code ticker}. */
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    /** {@code asc} or {@code desc}; defaults to A-Z for ticker and highest first otherwise. */
+    public String getOrder() {
+        return order;
+    }
+
+    public void setOrder(String order) {
+        this.order = order;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    boolean isAscending(Sort resolvedSort) {
+        if (order == null || order.isBlank()) {
+            return resolvedSort == Sort.TICKER;
+        }
+        if (order.trim().equalsIgnoreCase("desc")) {
+            return false;
+        }
+        if (order.trim().equalsIgnoreCase("asc")) {
+            return true;
+        }
+        throw new IllegalArgumentException("Unknown order: " + order);
+    }
+}
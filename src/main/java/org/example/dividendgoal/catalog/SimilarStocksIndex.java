@@ -0,0 +1,164 @@
+package org.example.dividendgoal.catalog;
+
+import org.example.dividendgoal.model.Stock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * [SEO] [Performance] Internal-link neighbors, precomputed per stock at load.
+ *
+ * Same-sector peers come first, nearest yield first. Stocks in small sectors
+ * are topped up from the high-yield pool in an order seeded by their own
+ * ticker, so every page links to a varied but stable set of stocks: the
+ * rendered HTML is identical across requests and restarts.
+ */
+public final class SimilarStocksIndex {
+
+    public static final int MAX_NEIGHBORS = 12;
+
+    // Same threshold the old random backfill used for "popular" dividend stocks
+    private static final double BACKFILL_MIN_YIELD = 3.0;
+
+    private final List<Stock> stocks;
+    private final int[][] neighbors;
+
+    SimilarStocksIndex(List<Stock> stocks, StockMetrics metrics) {
+        this.stocks = stocks;
+        int n = stocks.size();
+
+        // Sector members with a yield, sorted by yield so nearest peers sit next to each other
+        List<List<Integer>> groups = new ArrayList<>();
+        for (int code = 0; code < metrics.sectorCount(); code++) {
+            groups.add(new ArrayList<>());
+        }
+        List<Integer> pool = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            byte sector = metrics.sectorCode(i);
+            if (sector != StockMetrics.NONE && metrics.yield(i) > 0) {
+                groups.get(Byte.toUnsignedInt(sector)).add(i);
+            }
+            if (metrics.yield(i) > BACKFILL_MIN_YIELD) {
+                pool.add(i);
+            }
+        }
+        Comparator<Integer> byYield = Comparator.<Integer>comparingDouble(metrics::yield)
+                .thenComparing(i -> stocks.get(i).getTicker());
+        int[][] sortedGroups = new int[groups.size()][];
+        for (int g = 0; g < groups.size(); g++) {
+            groups.get(g).sort(byYield);
+            sortedGroups[g] = groups.get(g).stream().mapToInt(Integer::intValue).toArray();
+        }
+        int[] poolOrdinals = pool.stream().mapToInt(Integer::intValue).toArray();
+        // Hashed once here rather than twice per comparison in every stock's backfill
+        int[] poolHashes = new int[poolOrdinals.length];
+        for (int k = 0; k < poolOrdinals.length; k++) {
+            poolHashes[k] = stocks.get(poolOrdinals[k]).getTicker().hashCode();
+        }
+        long[] bestKeys = new long[MAX_NEIGHBORS];
+        int[] bestOrdinals = new int[MAX_NEIGHBORS];
+
+        neighbors = new int[n][];
+        for (int i = 0; i < n; i++) {
+            byte sector = metrics.sectorCode(i);
+            int[] group = sector == StockMetrics.NONE ? new int[0] : sortedGroups[Byte.toUnsignedInt(sector)];
+            int[] picked = nearestByYield(group, i, metrics);
+            if (picked.length < MAX_NEIGHBORS) {
+                picked = backfill(picked, i, poolOrdinals, poolHashes, bestKeys, bestOrdinals);
+            }
+            neighbors[i] = picked;
+        }
+    }
+
+    /** First {@code limit} neighbors of the stock at {@code ordinal}; an O(limit) slice. */
+    public List<Stock> neighborsOf(int ordinal, int limit) {
+        int[] picked = neighbors[ordinal];
+        int count = Math.min(Math.max(limit, 0), picked.length);
+        List<Stock> result = new ArrayList<>(count);
+        for (int k = 0; k < count; k++) {
+            result.add(stocks.get(picked[k]));
+        }
+        return result;
+    }
+
+    // Two-pointer walk outwards from the stock's own position in the yield-sorted sector
+    private static int[] nearestByYield(int[] group, int self, StockMetrics metrics) {
+        double yield = metrics.yield(self);
+        int right = 0;
+        while (right < group.length && metrics.yield(group[right]) < yield) {
+            right++;
+        }
+        int left = right - 1;
+        int[] picked = new int[Math.min(MAX_NEIGHBORS, group.length)];
+        int count = 0;
+        while (count < picked.length && (left >= 0 || right < group.length)) {
+            if (right < group.length && group[right] == self) {
+                right++;
+                continue;
+            }
+            boolean takeLeft = right >= group.length || (left >= 0
+                    && yield - metrics.yield(group[left]) <= metrics.yield(group[right]) - yield);
+            picked[count++] = takeLeft ? group[left--] : group[right++];
+        }
+        return Arrays.copyOf(picked, count);
+    }
+
+    /**
+     * Tops {@code picked} up with the pool members whose seeded keys are
+     * smallest, ties by ordinal. Only the best few are kept, in a sorted buffer of
+     * at most {@link #MAX_NEIGHBORS}, so each stock costs one pass over the pool
+     * instead of a full sort of it.
+     */
+    private int[] backfill(int[] picked, int self, int[] pool, int[] poolHashes, long[] bestKeys,
+            int[] bestOrdinals) {
+        long seed = stocks.get(self).getTicker().hashCode();
+        int need = MAX_NEIGHBORS - picked.length;
+        int count = 0;
+        for (int k = 0; k < pool.length; k++) {
+            int ordinal = pool[k];
+            if (ordinal == self) {
+                continue;
+            }
+            // Seeded order: varies from stock to stock, but never between requests
+            long key = mix(seed, poolHashes[k]);
+            // Pool ordinals ascend, so an equal key never displaces an earlier one
+            if (count == need && key >= bestKeys[count - 1]) {
+                continue;
+            }
+            if (contains(picked, ordinal)) {
+                continue;
+            }
+            int slot = count < need ? count++ : count - 1;
+            while (slot > 0 && bestKeys[slot - 1] > key) {
+                bestKeys[slot] = bestKeys[slot - 1];
+                bestOrdinals[slot] = bestOrdinals[slot - 1];
+                slot--;
+            }
+            bestKeys[slot] = key;
+            bestOrdinals[slot] = ordinal;
+        }
+
+        int[] filled = Arrays.copyOf(picked, picked.length + count);
+        System.arraycopy(bestOrdinals, 0, filled, picked.length, count);
+        return filled;
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // SplitMix64 finalizer: well-spread and stable across JVMs
+    private static long mix(long seed, int value) {
+        long z = seed * 0x9E3779B97F4A7C15L + value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,227 @@
+package org.example.dividendgoal.catalog;
+
+import org.example.dividendgoal.model.Stock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * [Performance] Immutable, fully indexed snapshot of the stock universe.
+ *
+ * Built once per load and published as a single reference, so readers always
+ * see a consistent set of indexes without locking or going through the Spring
+ * cache proxy. Ticker lookups are a single hash probe on the normalized ticker.
+ */
+public final class StockCatalog {
+
+    private static final StockCatalog EMPTY = new StockCatalog(List.of());
+
+    private static final Comparator<Stock> BY_YIELD_DESC = Comparator.comparingDouble(Stock::getYield).reversed()
+            .thenComparing(Stock::getTicker);
+    private static final Comparator<Stock> BY_RISK = Comparator
+            .comparingInt((Stock stock) -> riskRank(stock.getRisk()))
+            .thenComparing(BY_YIELD_DESC);
+
+    private final List<Stock> stocks;
+    private final List<String> tickers;
+    private final Map<String, Integer> ordinalsByTicker;
+    private final Map<String, List<Stock>> stocksBySector;
+    private final List<Stock> stocksByYield;
+    private final List<Stock> stocksByDividendGrowth;
+    private final List<Stock> stocksByRisk;
+    private final StockMetrics metrics;
+    private final ScreenerIndex screener;
+    private final TickerSuggestIndex suggestIndex;
+    private final SimilarStocksIndex similarStocks;
+    private final DividendHistoryIndex dividendHistory;
+    private final String version;
+
+    private StockCatalog(List<Stock> source) {
+        List<Stock> unique = new ArrayList<>(source.size());
+        Map<String, Integer> ordinals = new HashMap<>(Math.max(16, source.size() * 2));
+        Map<String, List<Stock>> sectors = new LinkedHashMap<>();
+
+        for (Stock stock : source) {
+            if (stock == null || stock.getTicker() == null || stock.getTicker().isBlank()) {
+                continue;
+            }
+            String key = normalizeTicker(stock.getTicker());
+            // First record wins, matching the previous findFirst() semantics.
+            if (ordinals.putIfAbsent(key, unique.size()) != null) {
+                continue;
+            }
+            unique.add(stock);
+            String sectorKey = normalizeSector(stock.getSector());
+            if (!sectorKey.isEmpty()) {
+                sectors.computeIfAbsent(sectorKey, ignored -> new ArrayList<>()).add(stock);
+            }
+        }
+
+        this.stocks = List.copyOf(unique);
+        this.tickers = unique.stream().map(Stock::getTicker).toList();
+        this.ordinalsByTicker = Collections.unmodifiableMap(ordinals);
+
+        Map<String, List<Stock>> frozenSectors = new LinkedHashMap<>();
+        sectors.forEach((sector, members) -> frozenSectors.put(sector, List.copyOf(members)));
+        this.stocksBySector = Collections.unmodifiableMap(frozenSectors);
+
+        this.metrics = new StockMetrics(this.stocks);
+        this.stocksByYield = project(metrics.byYieldDesc());
+        this.stocksByDividendGrowth = project(metrics.byDividendGrowthDesc());
+        this.stocksByRisk = sortedCopy(unique, BY_RISK);
+        this.screener = new ScreenerIndex(this.stocks, metrics);
+        this.suggestIndex = new TickerSuggestIndex(this.stocks);
+        this.similarStocks = new SimilarStocksIndex(this.stocks, metrics);
+        this.dividendHistory = new DividendHistoryIndex(this.stocks);
+        this.version = fingerprint(this.stocks);
+    }
+
+    public static StockCatalog of(List<Stock> stocks) {
+        return stocks == null || stocks.isEmpty() ? EMPTY : new StockCatalog(stocks);
+    }
+
+    public static StockCatalog empty() {
+        return EMPTY;
+    }
+
+    /** Stocks in source (load) order. */
+    public List<Stock> getStocks() {
+        return stocks;
+    }
+
+    public List<String> getTickers() {
+        return tickers;
+    }
+
+    public int size() {
+        return stocks.size();
+    }
+
+    /**
+     * Content fingerprint of the dataset. Identical data always yields the same
+     * version, so it is stable across restarts and changes on every real update.
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /** Primitive metric columns, indexed by the same ordinals as {@link #getStocks()}. */
+    public StockMetrics getMetrics() {
+        return metrics;
+    }
+
+    public ScreenerIndex getScreener() {
+        return screener;
+    }
+
+    public TickerSuggestIndex getSuggestIndex() {
+        return suggestIndex;
+    }
+
+    public SimilarStocksIndex getSimilarStocks() {
+        return similarStocks;
+    }
+
+    public DividendHistoryIndex getDividendHistory() {
+        return dividendHistory;
+    }
+
+    public Optional<Stock> find(String ticker) {
+        int ordinal = ordinalOf(ticker);
+        return ordinal < 0 ? Optional.empty() : Optional.of(stocks.get(ordinal));
+    }
+
+    /** Position of the ticker in {@link #getStocks()}, or -1 when unknown. */
+    public int ordinalOf(String ticker) {
+        if (ticker == null) {
+            return -1;
+        }
+        Integer ordinal = ordinalsByTicker.get(normalizeTicker(ticker));
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public List<Stock> getSectorStocks(String sector) {
+        return stocksBySector.getOrDefault(normalizeSector(sector), List.of());
+    }
+
+    public List<Stock> getStocksByYield() {
+        return stocksByYield;
+    }
+
+    public List<Stock> getStocksByDividendGrowth() {
+        return stocksByDividendGrowth;
+    }
+
+    /** LOW, MEDIUM, HIGH, then unrated; highest yield first inside each band. */
+    public List<Stock> getStocksByRisk() {
+        return stocksByRisk;
+    }
+
+    public static String normalizeTicker(String ticker) {
+        return ticker == null ? "" : ticker.trim().toUpperCase(Locale.US);
+    }
+
+    static String normalizeSector(String sector) {
+        return sector == null ? "" : sector.trim().toLowerCase(Locale.US);
+    }
+
+    private static int riskRank(String risk) {
+        byte code = StockMetrics.riskCodeOf(risk);
+        return code == StockMetrics.NONE ? 3 : code;
+    }
+
+    private static String fingerprint(List<Stock> stocks) {
+        long hash = 0xcbf29ce484222325L;
+        for (Stock stock : stocks) {
+            hash = mix(hash, stock.getTicker());
+            hash = mix(hash, stock.getName());
+            hash = mix(hash, stock.getDescription());
+            hash = mix(hash, stock.getSector());
+            hash = mix(hash, stock.getFrequency());
+            hash = mix(hash, stock.getRisk());
+            hash = mix(hash, Double.doubleToLongBits(stock.getYield()));
+            hash = mix(hash, Double.doubleToLongBits(stock.getDividendGrowth()));
+            hash = mix(hash, Double.doubleToLongBits(stock.getSectorMedianYield()));
+            hash = mix(hash, Double.doubleToLongBits(stock.getPayoutRatio()));
+            hash = mix(hash, stock.getDividendYears());
+            hash = mix(hash, stock.getConsecutiveGrowthYears());
+            hash = mix(hash, stock.isDividendCutHistory() ? 1 : 0);
+            if (stock.getDividendHistory() != null) {
+                for (Stock.DividendRecord record : stock.getDividendHistory()) {
+                    hash = mix(hash, record.getYear());
+                    hash = mix(hash, Double.doubleToLongBits(record.getDividendPerShare()));
+                }
+            }
+        }
+        return String.format("%016x", hash);
+    }
+
+    private static long mix(long hash, String value) {
+        return mix(hash, value == null ? 0 : value.hashCode());
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * 0x100000001b3L;
+    }
+
+    private List<Stock> project(int[] ordinals) {
+        List<Stock> projected = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            projected.add(stocks.get(ordinal));
+        }
+        return List.copyOf(projected);
+    }
+
+    private static List<Stock> sortedCopy(List<Stock> source, Comparator<Stock> comparator) {
+        List<Stock> sorted = new ArrayList<>(source);
+        sorted.sort(comparator);
+        return List.copyOf(sorted);
+    }
+}
@@ -0,0 +1,248 @@
+package org.example.dividendgoal.catalog;
+
+import org.example.dividendgoal.model.Stock;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * [YMYL] [Performance] Load-time derivation of the metrics stocks.json often
+ * leaves out: sector median yield, dividend CAGR, growth streak and cut flag.
+ *
+ * Reported values always win. A missing value is only filled from data that
+ * is actually in the dataset (the stock's dividend history, its sector peers'
+ * yields) and stays missing otherwise; every field records its
+ * {@link Stock.Source}.
+ *
+ * Runs once per load, before the catalog is built. Yields are packed per
+ * sector into one primitive array and medians found by quickselect; history
+ * work is per stock. Both go parallel for large universes.
+ */
+public final class StockDerivations {
+
+    static final int PARALLEL_THRESHOLD = 2_048;
+
+    // A "median" of one or two stocks is just their own yield
+    static final int MIN_SECTOR_PEERS = 3;
+
+    private static final byte DERIVED_GROWTH = 1;
+    private static final byte DERIVED_STREAK = 1 << 1;
+    private static final byte DERIVED_CUT = 1 << 2;
+
+    private StockDerivations() {
+    }
+
+    /** Counts of values filled in by derivation, for the load log. */
+    public record Summary(int sectorMedians, int growthRates, int streaks, int cutFlags) {
+    }
+
+    /** Fills the missing metrics of {@code stocks} in place. */
+    public static Summary apply(List<Stock> stocks) {
+        int sectorMedians = deriveSectorMedians(stocks);
+        byte[] derived = new byte[stocks.size()];
+        IntStream range = IntStream.range(0, stocks.size());
+        (stocks.size() >= PARALLEL_THRESHOLD ? range.parallel() : range)
+                .forEach(i -> derived[i] = deriveFromHistory(stocks.get(i)));
+
+        int growthRates = 0;
+        int streaks = 0;
+        int cutFlags = 0;
+        for (byte fields : derived) {
+            growthRates += fields & DERIVED_GROWTH;
+            streaks += (fields & DERIVED_STREAK) >>> 1;
+            cutFlags += (fields & DERIVED_CUT) >>> 2;
+        }
+        return new Summary(sectorMedians, growthRates, streaks, cutFlags);
+    }
+
+    // --- Sector medians ---
+
+    private static int deriveSectorMedians(List<Stock> stocks) {
+        int n = stocks.size();
+        Map<String, Integer> codes = new HashMap<>();
+        int[] sectorOf = new int[n];
+        for (int i = 0; i < n; i++) {
+            String key = StockCatalog.normalizeSector(stocks.get(i).getSector());
+            sectorOf[i] = key.isEmpty() ? -1 : codes.computeIfAbsent(key, ignored -> codes.size());
+        }
+
+        // Counting sort of the positive yields into one array, a contiguous run per sector
+        int sectors = codes.size();
+        int[] offset = new int[sectors + 1];
+        for (int i = 0; i < n; i++) {
+            if (sectorOf[i] >= 0 && stocks.get(i).getYield() > 0) {
+                offset[sectorOf[i] + 1]++;
+            }
+        }
+        for (int s = 0; s < sectors; s++) {
+            offset[s + 1] += offset[s];
+        }
+        double[] yields = new double[offset[sectors]];
+        int[] fill = Arrays.copyOf(offset, sectors);
+        for (int i = 0; i < n; i++) {
+            if (sectorOf[i] >= 0 && stocks.get(i).getYield() > 0) {
+                yields[fill[sectorOf[i]]++] = stocks.get(i).getYield();
+            }
+        }
+
+        double[] medians = new double[sectors];
+        IntStream range = IntStream.range(0, sectors);
+        (n >= PARALLEL_THRESHOLD ? range.parallel() : range).forEach(s -> {
+            int count = offset[s + 1] - offset[s];
+            medians[s] = count < MIN_SECTOR_PEERS ? Double.NaN : median(yields, offset[s], offset[s + 1]);
+        });
+
+        int derived = 0;
+        for (int i = 0; i < n; i++) {
+            Stock stock = stocks.get(i);
+            if (stock.getSectorMedianYield() > 0) {
+                stock.setSectorMedianYieldSource(Stock.Source.REPORTED);
+            } else if (sectorOf[i] >= 0 && !Double.isNaN(medians[sectorOf[i]])) {
+                stock.setSectorMedianYield(round2(medians[sectorOf[i]]));
+                stock.setSectorMedianYieldSource(Stock.Source.DERIVED);
+                derived++;
+            } else {
+                stock.setSectorMedianYieldSource(Stock.Source.MISSING);
+            }
+        }
+        return derived;
+    }
+
+    /** Median of {@code values[from, to)}; reorders that range. */
+    static double median(double[] values, int from, int to) {
+        int count = to - from;
+        int upper = from + count / 2;
+        double upperValue = select(values, from, to - 1, upper);
+        if ((count & 1) == 1) {
+            return upperValue;
+        }
+        // Everything left of the upper middle is now <= it; the lower middle is their maximum
+        double lowerValue = values[from];
+        for (int k = from + 1; k < upper; k++) {
+            lowerValue = Math.max(lowerValue, values[k]);
+        }
+        return (lowerValue + upperValue) / 2;
+    }
+
+    // Iterative quickselect (Hoare partition, middle pivot) over values[left..right]
+    private static double select(double[] values, int left, int right, int k) {
+        while (left < right) {
+            double pivot = values[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    double swap = values[i];
+                    values[i++] = values[j];
+                    values[j--] = swap;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return values[k];
+            }
+        }
+        return values[k];
+    }
+
+    // --- Per-stock history ---
+
+    /** Returns the {@code DERIVED_*} bits of the fields it filled in. */
+    private static byte deriveFromHistory(Stock stock) {
+        List<Stock.DividendRecord> history = stock.getDividendHistory();
+        Stock.DividendRecord[] records = history == null ? new Stock.DividendRecord[0]
+                : history.toArray(new Stock.DividendRecord[0]);
+        Arrays.sort(records, (a, b) -> Integer.compare(a.getYear(), b.getYear()));
+        boolean usable = records.length >= 2 && records[records.length - 1].getYear() > records[0].getYear();
+        byte derived = 0;
+
+        if (stock.getDividendGrowth() != 0) {
+            stock.setDividendGrowthSource(Stock.Source.REPORTED);
+        } else {
+            double cagr = usable ? cagr(records) : Double.NaN;
+            if (Double.isNaN(cagr)) {
+                stock.setDividendGrowthSource(Stock.Source.MISSING);
+            } else {
+                stock.setDividendGrowth(round2(cagr));
+                stock.setDividendGrowthSource(Stock.Source.DERIVED);
+                derived |= DERIVED_GROWTH;
+            }
+        }
+
+        if (stock.getConsecutiveGrowthYears() > 0) {
+            stock.setConsecutiveGrowthYearsSource(Stock.Source.REPORTED);
+        } else if (usable) {
+            stock.setConsecutiveGrowthYears(growthStreak(records));
+            stock.setConsecutiveGrowthYearsSource(Stock.Source.DERIVED);
+            derived |= DERIVED_STREAK;
+        } else {
+            stock.setConsecutiveGrowthYearsSource(Stock.Source.MISSING);
+        }
+
+        // An omitted flag reads as false, so only true counts as reported
+        if (stock.isDividendCutHistory()) {
+            stock.setDividendCutHistorySource(Stock.Source.REPORTED);
+        } else if (usable) {
+            stock.setDividendCutHistory(hasCut(records));
+            stock.setDividendCutHistorySource(Stock.Source.DERIVED);
+            derived |= DERIVED_CUT;
+        } else {
+            stock.setDividendCutHistorySource(Stock.Source.MISSING);
+        }
+        return derived;
+    }
+
+    /** Annual growth in percent from the first paying year to the last year, or NaN. */
+    static double cagr(Stock.DividendRecord[] sorted) {
+        int first = 0;
+        while (first < sorted.length && sorted[first].getDividendPerShare() <= 0) {
+            first++;
+        }
+        Stock.DividendRecord last = sorted[sorted.length - 1];
+        if (first >= sorted.length - 1 || last.getYear() <= sorted[first].getYear()) {
+            return Double.NaN;
+        }
+        double ratio = last.getDividendPerShare() / sorted[first].getDividendPerShare();
+        return (Math.pow(ratio, 1.0 / (last.getYear() - sorted[first].getYear())) - 1) * 100;
+    }
+
+    /** Consecutive year-over-year raises ending at the last year; a gap in the years ends the streak. */
+    static int growthStreak(Stock.DividendRecord[] sorted) {
+        int streak = 0;
+        for (int k = sorted.length - 1; k > 0; k--) {
+            if (sorted[k].getYear() != sorted[k - 1].getYear() + 1
+                    || !(sorted[k].getDividendPerShare() > sorted[k - 1].getDividendPerShare())) {
+                break;
+            }
+            streak++;
+        }
+        return streak;
+    }
+
+    /** Any recorded year paying less than the year before it. */
+    static boolean hasCut(Stock.DividendRecord[] sorted) {
+        for (int k = 1; k < sorted.length; k++) {
+            if (sorted[k].getYear() > sorted[k - 1].getYear()
+                    && sorted[k].getDividendPerShare() < sorted[k - 1].getDividendPerShare()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double round2(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,281 @@
+package org.example.dividendgoal.catalog;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.InputCoercionException;
+import org.example.dividendgoal.model.Stock;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * [Performance] Streaming reader for stocks.json and its shards.
+ *
+ * Walks the token stream one record at a time instead of materializing the
+ * whole document, so peak memory during a load is the accepted stocks plus a
+ * single record in flight. A record with a bad value is skipped and reported;
+ * only a structurally broken file fails the whole source.
+ *
+ * One instance accumulates one load (several sources) and is not thread-safe.
+ */
+public final class StockJsonLoader {
+
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private final JsonFactory jsonFactory;
+    private final List<Stock> stocks = new ArrayList<>();
+    private final Set<String> seenTickers = new HashSet<>();
+    private final List<String> errors = new ArrayList<>();
+    // Sector / frequency / risk repeat across thousands of records; keep one instance each
+    private final Map<String, String> sharedStrings = new HashMap<>();
+    private int rejectedRecords;
+
+    public StockJsonLoader(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Appends every valid record of the source (a top-level JSON array).
+     *
+     * @throws IOException when the source is unreadable or not a JSON array of objects
+     */
+    public void read(InputStream in, String sourceName) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException(sourceName + ": expected a JSON array of stocks");
+            }
+            int index = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IOException(sourceName + ": unexpected end of input");
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    reject(sourceName, index++, null, "expected an object but found " + token);
+                    parser.skipChildren();
+                    continue;
+                }
+                readRecord(parser, sourceName, index++);
+            }
+        }
+    }
+
+    public List<Stock> getStocks() {
+        return stocks;
+    }
+
+    /** First {@value #MAX_REPORTED_ERRORS} problems, formatted as {@code source#index (TICKER): reason}. */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public int getRejectedRecords() {
+        return rejectedRecords;
+    }
+
+    private void readRecord(JsonParser parser, String sourceName, int index) throws IOException {
+        Stock stock = new Stock();
+        List<String> problems = new ArrayList<>(0);
+        JsonStreamContext recordContext = parser.getParsingContext();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            try {
+                readField(parser, stock, field);
+            } catch (NumberFormatException | IllegalStateException e) {
+                problems.add(field + ": " + e.getMessage());
+                skipToContext(parser, recordContext);
+            } catch (InputCoercionException e) {
+                // A well-formed number that does not fit the field (e.g. an int beyond 2^31): a bad value, not a bad file
+                problems.add(field + ": " + e.getOriginalMessage());
+                skipToContext(parser, recordContext);
+            }
+        }
+
+        validate(stock, problems);
+        if (!problems.isEmpty()) {
+            reject(sourceName, index, stock.getTicker(), String.join("; ", problems));
+            return;
+        }
+        seenTickers.add(StockCatalog.normalizeTicker(stock.getTicker()));
+        stocks.add(stock);
+    }
+
+    private void readField(JsonParser parser, Stock stock, String field) throws IOException {
+        switch (field) {
+            case "ticker" -> stock.setTicker(readText(parser));
+            case "name" -> stock.setName(readText(parser));
+            case "description" -> stock.setDescription(readText(parser));
+            case "sector" -> stock.setSector(share(readText(parser)));
+            case "frequency" -> stock.setFrequency(share(readText(parser)));
+            case "risk" -> stock.setRisk(share(readText(parser)));
+            case "yield" -> stock.setYield(readDouble(parser));
+            case "dividendGrowth" -> stock.setDividendGrowth(readDouble(parser));
+            case "sectorMedianYield" -> stock.setSectorMedianYield(readDouble(parser));
+            case "payoutRatio" -> stock.setPayoutRatio(readDouble(parser));
+            case "dividendYears" -> stock.setDividendYears(readInt(parser));
+            case "consecutiveGrowthYears" -> stock.setConsecutiveGrowthYears(readInt(parser));
+            case "dividendCutHistory" -> stock.setDividendCutHistory(readBoolean(parser));
+            case "dividendHistory" -> stock.setDividendHistory(readHistory(parser));
+            default -> parser.skipChildren(); // unknown fields are ignored, like the ObjectMapper did
+        }
+    }
+
+    private List<Stock.DividendRecord> readHistory(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalStateException("expected an array");
+        }
+        ArrayList<Stock.DividendRecord> history = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            Stock.DividendRecord record = new Stock.DividendRecord();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                    case "year" -> record.setYear(readInt(parser));
+                    case "dividendPerShare" -> record.setDividendPerShare(readDouble(parser));
+                    default -> parser.skipChildren();
+                }
+            }
+            history.add(record);
+        }
+        if (parser.currentToken() != JsonToken.END_ARRAY) {
+            throw new IllegalStateException("expected history entries to be objects");
+        }
+        history.trimToSize();
+        return history;
+    }
+
+    private void validate(Stock stock, List<String> problems) {
+        String ticker = stock.getTicker();
+        if (ticker == null || ticker.isBlank()) {
+            problems.add("missing ticker");
+        } else if (seenTickers.contains(StockCatalog.normalizeTicker(ticker))) {
+            problems.add("duplicate ticker");
+        }
+        if (stock.getName() == null || stock.getName().isBlank()) {
+            problems.add("missing name");
+        }
+        if (!Double.isFinite(stock.getYield()) || stock.getYield() < 0 || stock.getYield() > 100) {
+            problems.add("yield out of range (" + stock.getYield() + ")");
+        }
+        if (!Double.isFinite(stock.getDividendGrowth())) {
+            problems.add("dividendGrowth is not a number");
+        }
+        if (stock.getDividendHistory() != null) {
+            int maxYear = DividendHistoryIndex.maxYear();
+            for (Stock.DividendRecord record : stock.getDividendHistory()) {
+                // An omitted year reads as 0
+                if (record.getYear() < DividendHistoryIndex.MIN_YEAR || record.getYear() > maxYear) {
+                    problems.add("dividendHistory year out of range (" + record.getYear() + ")");
+                    break;
+                }
+                if (!Double.isFinite(record.getDividendPerShare()) || record.getDividendPerShare() < 0) {
+                    problems.add("invalid dividendPerShare for " + record.getYear());
+                    break;
+                }
+            }
+        }
+    }
+
+    private void reject(String sourceName, int index, String ticker, String reason) {
+        rejectedRecords++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            String label = ticker == null || ticker.isBlank() ? "" : " (" + ticker + ")";
+            errors.add(sourceName + "#" + index + label + ": " + reason);
+        }
+    }
+
+    // Leaves the parser on the last token of the failed field, wherever inside it the error happened
+    private static void skipToContext(JsonParser parser, JsonStreamContext context) throws IOException {
+        if (parser.currentToken() != null && parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+        }
+        while (parser.getParsingContext() != context) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new IOException("unexpected end of input");
+            }
+            if (token.isStructStart()) {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private String share(String value) {
+        return value == null ? null : sharedStrings.computeIfAbsent(value, v -> v);
+    }
+
+    private static String readText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new IllegalStateException("expected a text value");
+        }
+        return parser.getText();
+    }
+
+    private static double readDouble(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        if (token.isNumeric()) {
+            return parser.getDoubleValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return Double.parseDouble(parser.getText().trim());
+        }
+        throw new IllegalStateException("expected a number");
+    }
+
+    private static int readInt(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            // Exporters that only know doubles write 10.0; accept it when it is a whole number in range
+            double value = parser.getDoubleValue();
+            if (value != Math.rint(value) || value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw new IllegalStateException("expected an integer but found " + parser.getText());
+            }
+            return (int) value;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return Integer.parseInt(parser.getText().trim());
+        }
+        throw new IllegalStateException("expected an integer");
+    }
+
+    private static boolean readBoolean(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return token == JsonToken.VALUE_TRUE;
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return Boolean.parseBoolean(parser.getText().trim());
+        }
+        throw new IllegalStateException("expected a boolean");
+    }
+}
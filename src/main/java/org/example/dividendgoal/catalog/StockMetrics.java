@@ -0,0 +1,240 @@
+package org.example.dividendgoal.catalog;
+
+import org.example.dividendgoal.model.Stock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * [Performance] Struct-of-arrays view of the numeric and categorical stock
+ * metrics, indexed by catalog ordinal.
+ *
+ * Screening and ranking loop over these primitive columns instead of walking
+ * {@link Stock} beans. Risk, frequency and sector are byte codes; {@link #NONE}
+ * marks a missing (or, past 255 distinct values, uncategorized) value; use
+ * {@link Byte#toUnsignedInt(byte)} to turn any other code into an array index.
+ */
+public final class StockMetrics {
+
+    public static final byte NONE = -1;
+    public static final byte RISK_LOW = 0;
+    public static final byte RISK_MEDIUM = 1;
+    public static final byte RISK_HIGH = 2;
+
+    /** Longest horizon covered by {@link #growthFactor(int, int)}. */
+    public static final int MAX_GROWTH_YEARS = 30;
+
+    private static final int MAX_CODES = 255;
+
+    private final double[] yield;
+    private final double[] dividendGrowth;
+    private final double[] payoutRatio;
+    private final double[] sectorMedianYield;
+    private final int[] consecutiveGrowthYears;
+    private final boolean[] dividendCutHistory;
+    private final byte[] risk;
+    private final byte[] frequency;
+    private final byte[] sector;
+    // (1 + g)^years for years 1..MAX_GROWTH_YEARS, row-major by ordinal
+    private final double[] growthFactors;
+
+    private final List<String> frequencyNames = new ArrayList<>();
+    private final List<String> sectorNames = new ArrayList<>();
+    private final Map<String, Byte> frequencyCodes = new HashMap<>();
+    private final Map<String, Byte> sectorCodes = new HashMap<>();
+
+    // Ordinals ranked highest first, ties broken by ticker
+    private final int[] byYieldDesc;
+    private final int[] byDividendGrowthDesc;
+
+    StockMetrics(List<Stock> stocks) {
+        int n = stocks.size();
+        yield = new double[n];
+        dividendGrowth = new double[n];
+        payoutRatio = new double[n];
+        sectorMedianYield = new double[n];
+        consecutiveGrowthYears = new int[n];
+        dividendCutHistory = new boolean[n];
+        risk = new byte[n];
+        frequency = new byte[n];
+        sector = new byte[n];
+        growthFactors = new double[n * MAX_GROWTH_YEARS];
+
+        for (int i = 0; i < n; i++) {
+            Stock stock = stocks.get(i);
+            yield[i] = stock.getYield();
+            dividendGrowth[i] = stock.getDividendGrowth();
+            payoutRatio[i] = stock.getPayoutRatio();
+            sectorMedianYield[i] = stock.getSectorMedianYield();
+            consecutiveGrowthYears[i] = stock.getConsecutiveGrowthYears();
+            dividendCutHistory[i] = stock.isDividendCutHistory();
+            risk[i] = riskCodeOf(stock.getRisk());
+            frequency[i] = encode(stock.getFrequency(), normalizeFrequency(stock.getFrequency()), frequencyCodes,
+                    frequencyNames);
+            sector[i] = encode(stock.getSector(), StockCatalog.normalizeSector(stock.getSector()), sectorCodes,
+                    sectorNames);
+
+            double rate = 1 + dividendGrowth[i] / 100.0;
+            double factor = 1;
+            for (int year = 0, slot = i * MAX_GROWTH_YEARS; year < MAX_GROWTH_YEARS; year++, slot++) {
+                factor *= rate;
+                growthFactors[slot] = factor;
+            }
+        }
+
+        byYieldDesc = rankDescending(yield, stocks);
+        byDividendGrowthDesc = rankDescending(dividendGrowth, stocks);
+    }
+
+    public int size() {
+        return yield.length;
+    }
+
+    public double yield(int ordinal) {
+        return yield[ordinal];
+    }
+
+    public double dividendGrowth(int ordinal) {
+        return dividendGrowth[ordinal];
+    }
+
+    /**
+     * Dividend growth compounded over {@code years} (0..{@link #MAX_GROWTH_YEARS}),
+     * i.e. {@code (1 + dividendGrowth / 100)^years}, from a table built at load.
+     */
+    public double growthFactor(int ordinal, int years) {
+        if (years == 0) {
+            return 1;
+        }
+        if (years < 0 || years > MAX_GROWTH_YEARS) {
+            throw new IllegalArgumentException("years must be between 0 and " + MAX_GROWTH_YEARS);
+        }
+        return growthFactors[ordinal * MAX_GROWTH_YEARS + years - 1];
+    }
+
+    public double payoutRatio(int ordinal) {
+        return payoutRatio[ordinal];
+    }
+
+    public double sectorMedianYield(int ordinal) {
+        return sectorMedianYield[ordinal];
+    }
+
+    public int consecutiveGrowthYears(int ordinal) {
+        return consecutiveGrowthYears[ordinal];
+    }
+
+    public boolean dividendCutHistory(int ordinal) {
+        return dividendCutHistory[ordinal];
+    }
+
+    public byte riskCode(int ordinal) {
+        return risk[ordinal];
+    }
+
+    public byte frequencyCode(int ordinal) {
+        return frequency[ordinal];
+    }
+
+    public byte sectorCode(int ordinal) {
+        return sector[ordinal];
+    }
+
+    /** Number of distinct frequency codes; valid codes are {@code 0..count-1}. */
+    public int frequencyCount() {
+        return frequencyNames.size();
+    }
+
+    /** Number of distinct sector codes; valid codes are {@code 0..count-1}. */
+    public int sectorCount() {
+        return sectorNames.size();
+    }
+
+    /** Display name (first spelling seen in the dataset) of a frequency code. */
+    public String frequencyName(int code) {
+        return frequencyNames.get(code);
+    }
+
+    /** Display name (first spelling seen in the dataset) of a sector code. */
+    public String sectorName(int code) {
+        return sectorNames.get(code);
+    }
+
+    public byte frequencyCodeOf(String frequency) {
+        return frequencyCodes.getOrDefault(normalizeFrequency(frequency), NONE);
+    }
+
+    public byte sectorCodeOf(String sector) {
+        return sectorCodes.getOrDefault(StockCatalog.normalizeSector(sector), NONE);
+    }
+
+    /** Ordinals ordered by yield, highest first. Callers must not modify the array. */
+    int[] byYieldDesc() {
+        return byYieldDesc;
+    }
+
+    /** Ordinals ordered by dividend growth, highest first. Callers must not modify the array. */
+    int[] byDividendGrowthDesc() {
+        return byDividendGrowthDesc;
+    }
+
+    /** Ordinal at the given position of the yield ranking. */
+    public int rankedByYield(int position) {
+        return byYieldDesc[position];
+    }
+
+    /** Ordinal at the given position of the dividend growth ranking. */
+    public int rankedByDividendGrowth(int position) {
+        return byDividendGrowthDesc[position];
+    }
+
+    public static byte riskCodeOf(String risk) {
+        if (risk == null) {
+            return NONE;
+        }
+        return switch (risk.trim().toUpperCase(Locale.US)) {
+            case "LOW" -> RISK_LOW;
+            case "MEDIUM" -> RISK_MEDIUM;
+            case "HIGH" -> RISK_HIGH;
+            default -> NONE;
+        };
+    }
+
+    private static String normalizeFrequency(String frequency) {
+        return frequency == null ? "" : frequency.trim().toUpperCase(Locale.US);
+    }
+
+    private static byte encode(String display, String key, Map<String, Byte> codes, List<String> names) {
+        if (key.isEmpty()) {
+            return NONE;
+        }
+        Byte code = codes.get(key);
+        if (code != null) {
+            return code;
+        }
+        if (names.size() >= MAX_CODES) {
+            return NONE;
+        }
+        byte next = (byte) names.size();
+        codes.put(key, next);
+        names.add(display.trim());
+        return next;
+    }
+
+    private static int[] rankDescending(double[] key, List<Stock> stocks) {
+        Integer[] order = new Integer[key.length];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> key[i]).reversed()
+                .thenComparing(i -> stocks.get(i).getTicker()));
+        int[] ranked = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            ranked[i] = order[i];
+        }
+        return ranked;
+    }
+}
@@ -0,0 +1,275 @@
+package org.example.dividendgoal.catalog;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.example.dividendgoal.model.Stock;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [Performance] Compact binary form of the stock dataset, produced at build time
+ * by the {@code stockSnapshot} Gradle task so boot skips JSON tokenizing and
+ * number parsing entirely.
+ *
+ * This is a faster load path, not a smaller heap: {@link #read} decodes every
+ * record into ordinary {@link Stock} objects, exactly what the JSON loader
+ * builds, and the catalog indexes those. The buffer is not needed afterwards.
+ *
+ * Layout (big-endian), all columns indexed by record ordinal:
+ * <pre>
+ * int magic, int formatVersion, int recordCount, int historyCount, int stringCount
+ * double[n] yield, dividendGrowth, sectorMedianYield, payoutRatio
+ * int[n]    dividendYears, consecutiveGrowthYears
+ * byte[n]   flags (bit 0 = dividendCutHistory, bit 1 = has dividendHistory)
+ * int[n]    ticker, name, description, sector, frequency, risk  (string table index, -1 = null)
+ * int[n+1]  history offsets
+ * int[h]    history year
+ * double[h] history dividendPerShare
+ * int[m+1]  string byte offsets, followed by the UTF-8 string blob
+ * </pre>
+ */
+public final class StockSnapshot {
+
+    public static final String FILE_NAME = "stocks.snapshot";
+
+    private static final int MAGIC = 0x44475331; // "DGS1"
+    private static final int FORMAT_VERSION = 1;
+    private static final int FLAG_CUT_HISTORY = 1;
+    private static final int FLAG_HAS_HISTORY = 1 << 1;
+
+    private StockSnapshot() {
+    }
+
+    /**
+     * Build entry point: {@code StockSnapshot <dataDir> <outputFile>} compiles
+     * {@code stocks.json} plus its {@code stocks-*.json} shards.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("usage: StockSnapshot <dataDir> <outputFile>");
+        }
+        Path dataDir = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+
+        StockJsonLoader loader = new StockJsonLoader(new JsonFactory());
+        List<Path> sources = new ArrayList<>();
+        sources.add(dataDir.resolve("stocks.json"));
+        try (DirectoryStream<Path> shards = Files.newDirectoryStream(dataDir, "stocks-*.json")) {
+            List<Path> sorted = new ArrayList<>();
+            shards.forEach(sorted::add);
+            sorted.sort(null);
+            sources.addAll(sorted);
+        }
+        for (Path source : sources) {
+            try (InputStream in = Files.newInputStream(source)) {
+                loader.read(in, source.getFileName().toString());
+            }
+        }
+        if (loader.getRejectedRecords() > 0) {
+            // Fail the build rather than silently shipping a partial dataset
+            throw new IllegalStateException("Invalid stock records: " + loader.getErrors());
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(output)) {
+            write(loader.getStocks(), out);
+        }
+        System.out.printf("Wrote %d stocks to %s (%d bytes)%n", loader.getStocks().size(), output, Files.size(output));
+    }
+
+    public static void write(List<Stock> stocks, OutputStream target) throws IOException {
+        int n = stocks.size();
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        int historyCount = 0;
+        for (Stock stock : stocks) {
+            if (stock.getDividendHistory() != null) {
+                historyCount += stock.getDividendHistory().size();
+            }
+        }
+
+        int[][] stringColumns = new int[6][n];
+        for (int i = 0; i < n; i++) {
+            Stock stock = stocks.get(i);
+            stringColumns[0][i] = intern(strings, stock.getTicker());
+            stringColumns[1][i] = intern(strings, stock.getName());
+            stringColumns[2][i] = intern(strings, stock.getDescription());
+            stringColumns[3][i] = intern(strings, stock.getSector());
+            stringColumns[4][i] = intern(strings, stock.getFrequency());
+            stringColumns[5][i] = intern(strings, stock.getRisk());
+        }
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(target));
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(n);
+        out.writeInt(historyCount);
+        out.writeInt(strings.size());
+
+        for (Stock stock : stocks) {
+            out.writeDouble(stock.getYield());
+        }
+        for (Stock stock : stocks) {
+            out.writeDouble(stock.getDividendGrowth());
+        }
+        for (Stock stock : stocks) {
+            out.writeDouble(stock.getSectorMedianYield());
+        }
+        for (Stock stock : stocks) {
+            out.writeDouble(stock.getPayoutRatio());
+        }
+        for (Stock stock : stocks) {
+            out.writeInt(stock.getDividendYears());
+        }
+        for (Stock stock : stocks) {
+            out.writeInt(stock.getConsecutiveGrowthYears());
+        }
+        for (Stock stock : stocks) {
+            int flags = (stock.isDividendCutHistory() ? FLAG_CUT_HISTORY : 0)
+                    | (stock.getDividendHistory() != null ? FLAG_HAS_HISTORY : 0);
+            out.writeByte(flags);
+        }
+        for (int[] column : stringColumns) {
+            for (int ref : column) {
+                out.writeInt(ref);
+            }
+        }
+
+        int offset = 0;
+        out.writeInt(offset);
+        for (Stock stock : stocks) {
+            offset += stock.getDividendHistory() == null ? 0 : stock.getDividendHistory().size();
+            out.writeInt(offset);
+        }
+        for (Stock stock : stocks) {
+            if (stock.getDividendHistory() != null) {
+                for (Stock.DividendRecord record : stock.getDividendHistory()) {
+                    out.writeInt(record.getYear());
+                }
+            }
+        }
+        for (Stock stock : stocks) {
+            if (stock.getDividendHistory() != null) {
+                for (Stock.DividendRecord record : stock.getDividendHistory()) {
+                    out.writeDouble(record.getDividendPerShare());
+                }
+            }
+        }
+
+        List<byte[]> encoded = new ArrayList<>(strings.size());
+        int blobOffset = 0;
+        out.writeInt(blobOffset);
+        for (String value : strings.keySet()) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            encoded.add(bytes);
+            blobOffset += bytes.length;
+            out.writeInt(blobOffset);
+        }
+        for (byte[] bytes : encoded) {
+            out.write(bytes);
+        }
+        out.flush();
+    }
+
+    /**
+     * Decodes a whole snapshot into stocks; nothing returned refers back to the
+     * buffer. Column reads use absolute offsets, so the buffer position is left
+     * untouched.
+     *
+     * @throws IOException when the buffer is not a snapshot of a supported format
+     */
+    public static List<Stock> read(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a stock snapshot");
+            }
+            if (buffer.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Unsupported stock snapshot version " + buffer.getInt(4));
+            }
+            int n = buffer.getInt(8);
+            int h = buffer.getInt(12);
+            int m = buffer.getInt(16);
+
+            int yieldAt = 20;
+            int growthAt = yieldAt + n * 8;
+            int medianAt = growthAt + n * 8;
+            int payoutAt = medianAt + n * 8;
+            int yearsAt = payoutAt + n * 8;
+            int streakAt = yearsAt + n * 4;
+            int flagsAt = streakAt + n * 4;
+            int stringRefsAt = flagsAt + n;
+            int historyOffsetsAt = stringRefsAt + 6 * n * 4;
+            int historyYearsAt = historyOffsetsAt + (n + 1) * 4;
+            int historyDpsAt = historyYearsAt + h * 4;
+            int stringOffsetsAt = historyDpsAt + h * 8;
+            int blobAt = stringOffsetsAt + (m + 1) * 4;
+
+            String[] table = new String[m];
+            byte[] scratch = new byte[256];
+            for (int s = 0; s < m; s++) {
+                int start = buffer.getInt(stringOffsetsAt + s * 4);
+                int length = buffer.getInt(stringOffsetsAt + (s + 1) * 4) - start;
+                if (scratch.length < length) {
+                    scratch = new byte[length];
+                }
+                buffer.get(blobAt + start, scratch, 0, length);
+                table[s] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+
+            List<Stock> stocks = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                Stock stock = new Stock();
+                stock.setYield(buffer.getDouble(yieldAt + i * 8));
+                stock.setDividendGrowth(buffer.getDouble(growthAt + i * 8));
+                stock.setSectorMedianYield(buffer.getDouble(medianAt + i * 8));
+                stock.setPayoutRatio(buffer.getDouble(payoutAt + i * 8));
+                stock.setDividendYears(buffer.getInt(yearsAt + i * 4));
+                stock.setConsecutiveGrowthYears(buffer.getInt(streakAt + i * 4));
+                int flags = buffer.get(flagsAt + i);
+                stock.setDividendCutHistory((flags & FLAG_CUT_HISTORY) != 0);
+
+                stock.setTicker(string(table, buffer.getInt(stringRefsAt + i * 4)));
+                stock.setName(string(table, buffer.getInt(stringRefsAt + (n + i) * 4)));
+                stock.setDescription(string(table, buffer.getInt(stringRefsAt + (2 * n + i) * 4)));
+                stock.setSector(string(table, buffer.getInt(stringRefsAt + (3 * n + i) * 4)));
+                stock.setFrequency(string(table, buffer.getInt(stringRefsAt + (4 * n + i) * 4)));
+                stock.setRisk(string(table, buffer.getInt(stringRefsAt + (5 * n + i) * 4)));
+
+                if ((flags & FLAG_HAS_HISTORY) != 0) {
+                    int from = buffer.getInt(historyOffsetsAt + i * 4);
+                    int to = buffer.getInt(historyOffsetsAt + (i + 1) * 4);
+                    List<Stock.DividendRecord> history = new ArrayList<>(to - from);
+                    for (int r = from; r < to; r++) {
+                        history.add(new Stock.DividendRecord(buffer.getInt(historyYearsAt + r * 4),
+                                buffer.getDouble(historyDpsAt + r * 8)));
+                    }
+                    stock.setDividendHistory(history);
+                }
+                stocks.add(stock);
+            }
+            return stocks;
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new IOException("Truncated stock snapshot", e);
+        }
+    }
+
+    private static int intern(Map<String, Integer> strings, String value) {
+        return value == null ? -1 : strings.computeIfAbsent(value, ignored -> strings.size());
+    }
+
+    private static String string(String[] table, int ref) {
+        return ref < 0 ? null : table[ref];
+    }
+}
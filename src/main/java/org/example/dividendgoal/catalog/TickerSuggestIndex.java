@@ -0,0 +1,115 @@
+package org.example.dividendgoal.catalog;
+
+import org.example.dividendgoal.model.Stock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * [Performance] Prefix index for ticker / company-name typeahead.
+ *
+ * Two sorted key arrays (tickers, and every word of every company name) with
+ * parallel ordinal arrays: a lookup is a binary search to the first key with
+ * the prefix, then a short forward scan. A query allocates only its result,
+ * never anything sized by the universe, so suggestions stay in the microsecond
+ * range as it grows.
+ */
+public final class TickerSuggestIndex {
+
+    private final List<Stock> stocks;
+    private final String[] tickerKeys;
+    private final int[] tickerOrdinals;
+    private final String[] nameKeys;
+    private final int[] nameOrdinals;
+
+    TickerSuggestIndex(List<Stock> stocks) {
+        this.stocks = stocks;
+
+        List<Key> tickers = new ArrayList<>(stocks.size());
+        List<Key> words = new ArrayList<>(stocks.size() * 3);
+        for (int i = 0; i < stocks.size(); i++) {
+            Stock stock = stocks.get(i);
+            tickers.add(new Key(normalize(stock.getTicker()), i));
+            if (stock.getName() != null) {
+                for (String word : normalize(stock.getName()).split("[^\\p{Alnum}]+")) {
+                    if (!word.isEmpty()) {
+                        words.add(new Key(word, i));
+                    }
+                }
+            }
+        }
+        tickers.sort(Comparator.comparing(Key::text));
+        words.sort(Comparator.comparing(Key::text).thenComparingInt(Key::ordinal));
+
+        tickerKeys = tickers.stream().map(Key::text).toArray(String[]::new);
+        tickerOrdinals = tickers.stream().mapToInt(Key::ordinal).toArray();
+        nameKeys = words.stream().map(Key::text).toArray(String[]::new);
+        nameOrdinals = words.stream().mapToInt(Key::ordinal).toArray();
+    }
+
+    /**
+     * Up to {@code limit} stocks for the typed prefix: exact ticker first, then
+     * other tickers with the prefix, then company names with a word starting
+     * with it.
+     */
+    public List<Stock> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int capacity = Math.min(limit, stocks.size());
+        List<Stock> result = new ArrayList<>(capacity);
+        // Ordinals already in the result; at most `limit` of them, so a linear scan beats any set
+        int[] added = new int[capacity];
+
+        // Lexicographic order puts the exact ticker first, then its extensions ("O", "OHI", "OKE")
+        for (int i = lowerBound(tickerKeys, prefix); i < tickerKeys.length && result.size() < limit
+                && tickerKeys[i].startsWith(prefix); i++) {
+            added[result.size()] = tickerOrdinals[i];
+            result.add(stocks.get(tickerOrdinals[i]));
+        }
+
+        for (int i = lowerBound(nameKeys, prefix); i < nameKeys.length && result.size() < limit
+                && nameKeys[i].startsWith(prefix); i++) {
+            int ordinal = nameOrdinals[i];
+            if (!contains(added, result.size(), ordinal)) {
+                added[result.size()] = ordinal;
+                result.add(stocks.get(ordinal));
+            }
+        }
+        return result;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int lowerBound(String[] keys, String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toUpperCase(Locale.US);
+    }
+
+    private record Key(String text, int ordinal) {
+    }
+}
@@ -5,12 +5,16 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.example.dividendgoal.seo.CanonicalUrls;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+// Ahead of PageCacheFilter, so a cached page is never served on a non-canonical host
 @Component
+@Order(Ordered.LOWEST_PRECEDENCE - 100)
 public class CanonicalRedirectFilter extends OncePerRequestFilter {
 
     @Override
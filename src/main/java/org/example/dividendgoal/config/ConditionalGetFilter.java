@@ -0,0 +1,250 @@
+package org.example.dividendgoal.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.example.dividendgoal.catalog.StockCatalog;
+import org.example.dividendgoal.seo.SeoPolicy;
+import org.example.dividendgoal.service.LifestyleService;
+import org.example.dividendgoal.service.StockDataService;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * [Performance] [SEO] Conditional GET for the SSR page routes.
+ *
+ * The pages send {@code Last-Modified} = first day of the month. This filter
+ * raises that to the catalog publish time when the data changed later in the
+ * month, adds a weak ETag built from the request path, catalog version and
+ * month, and answers {@code If-None-Match} / {@code If-Modified-Since} with 304
+ * before any controller, page cache or template runs. Crawler revalidations
+ * then cost a string compare.
+ *
+ * Only paths that resolve to an existing, canonical page are answered: the
+ * tickers must be in the catalog as written, a comparison pair must be in
+ * canonical order and on the SEO surface, and so on. Anything the controllers
+ * would answer with 404, 410 or a redirect goes through untouched.
+ *
+ * The ETag is weak because a page's visible "today" date moves daily while its
+ * content only changes with the dataset or the month. If-None-Match wins over
+ * If-Modified-Since when both are sent (RFC 9110), so a dataset reload
+ * mid-month still reaches clients that send the ETag.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 50)
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    private static final String TARGET_PREFIX = "/how-much-dividend/";
+    private static final String TARGET_SUFFIX = "-per-month";
+    private static final String INCOME_PREFIX = "/how-much-income/";
+    private static final String COMPARE_PREFIX = "/compare/";
+    private static final String LIFESTYLE_PREFIX = "/lifestyle/cost-of-";
+    private static final String LIFESTYLE_SUFFIX = "-dividend";
+    private static final String GOAL_PREFIX = "/lifestyle/pay-for-";
+    private static final String VERSUS = "-vs-";
+
+    // Plain positive amounts; "$1,000"-style segments still render, they just never get a 304
+    private static final Pattern AMOUNT = Pattern.compile("[0-9]+(\\.[0-9]+)?");
+
+    private final StockDataService stockDataService;
+    private final LifestyleService lifestyleService;
+
+    private final LongAdder evaluated = new LongAdder();
+    private final LongAdder notModifiedByEtag = new LongAdder();
+    private final LongAdder notModifiedByDate = new LongAdder();
+
+    public ConditionalGetFilter(StockDataService stockDataService, LifestyleService lifestyleService) {
+        this.stockDataService = stockDataService;
+        this.lifestyleService = lifestyleService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method)) || !PageCacheFilter.isCachedRoute(
+                request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Catalog first: the publish time is written before the catalog it belongs to
+        StockCatalog catalog = stockDataService.getCatalog();
+        long publishedAt = stockDataService.getCatalogPublishedAt();
+        String path = request.getRequestURI();
+        if (!isCanonicalPage(path, catalog)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        evaluated.increment();
+        YearMonth month = YearMonth.now();
+        String etag = etag(path, catalog.getVersion(), month);
+        long lastModified = lastModified(month, publishedAt);
+
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        boolean notModified;
+        if (ifNoneMatch != null) {
+            notModified = matches(ifNoneMatch, etag);
+            if (notModified) {
+                notModifiedByEtag.increment();
+            }
+        } else {
+            notModified = notModifiedSince(request, lastModified);
+            if (notModified) {
+                notModifiedByDate.increment();
+            }
+        }
+
+        response.setHeader("ETag", etag);
+        if (notModified) {
+            response.setDateHeader("Last-Modified", lastModified);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        filterChain.doFilter(request, new LastModifiedResponse(response, lastModified));
+    }
+
+    /** True when the controllers would render this path as a 200 canonical page. */
+    boolean isCanonicalPage(String path, StockCatalog catalog) {
+        if (path.startsWith(TARGET_PREFIX)) {
+            String[] parts = path.substring(TARGET_PREFIX.length()).split("/", -1);
+            return parts.length == 2 && parts[0].endsWith(TARGET_SUFFIX)
+                    && isAmount(parts[0].substring(0, parts[0].length() - TARGET_SUFFIX.length()))
+                    && isCatalogTicker(parts[1], catalog);
+        }
+        if (path.startsWith(INCOME_PREFIX)) {
+            String[] parts = path.substring(INCOME_PREFIX.length()).split("/", -1);
+            return parts.length == 2 && isAmount(parts[0]) && isCatalogTicker(parts[1], catalog);
+        }
+        if (path.startsWith(COMPARE_PREFIX)) {
+            String pair = path.substring(COMPARE_PREFIX.length());
+            int versus = pair.indexOf(VERSUS);
+            if (versus < 0 || pair.indexOf('/') >= 0) {
+                return false;
+            }
+            String left = pair.substring(0, versus);
+            String right = pair.substring(versus + VERSUS.length());
+            SeoPolicy.ComparisonPair canonical = SeoPolicy.canonicalComparisonPair(left, right);
+            return !left.equalsIgnoreCase(right) && canonical.left().equals(left) && canonical.right().equals(right)
+                    && isCatalogTicker(left, catalog) && isCatalogTicker(right, catalog)
+                    && SeoPolicy.isIndexableComparisonPage(left, right);
+        }
+        if (path.startsWith(LIFESTYLE_PREFIX) && path.endsWith(LIFESTYLE_SUFFIX)) {
+            String rest = path.substring(LIFESTYLE_PREFIX.length(), path.length() - LIFESTYLE_SUFFIX.length());
+            int versus = rest.lastIndexOf(VERSUS);
+            if (versus < 0 || rest.indexOf('/') >= 0) {
+                return false;
+            }
+            String slug = rest.substring(0, versus);
+            String ticker = rest.substring(versus + VERSUS.length());
+            return SeoPolicy.isIndexableLifestylePage(slug, ticker) && lifestyleService.findBySlug(slug).isPresent()
+                    && isCatalogTicker(ticker, catalog);
+        }
+        if (path.startsWith(GOAL_PREFIX)) {
+            String slug = path.substring(GOAL_PREFIX.length());
+            return slug.indexOf('/') < 0 && SeoPolicy.isIndexableLifestyleHubPage(slug)
+                    && lifestyleService.findBySlug(slug).isPresent();
+        }
+        return false;
+    }
+
+    private static boolean isAmount(String segment) {
+        return AMOUNT.matcher(segment).matches() && Double.parseDouble(segment) > 0;
+    }
+
+    // Exact spelling only, so the validator never covers a URL some other casing of which is canonical
+    private static boolean isCatalogTicker(String ticker, StockCatalog catalog) {
+        return catalog.find(ticker).map(stock -> stock.getTicker().equals(ticker)).orElse(false);
+    }
+
+    static String etag(String path, String catalogVersion, YearMonth month) {
+        return "W/\"" + catalogVersion + '-' + (month.getYear() * 100 + month.getMonthValue()) + '-'
+                + Integer.toHexString(path.hashCode()) + '"';
+    }
+
+    /** Weak comparison against a comma-separated If-None-Match list. */
+    static boolean matches(String ifNoneMatch, String etag) {
+        String opaque = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag) || opaqueTag(tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static boolean notModifiedSince(HttpServletRequest request, long lastModified) {
+        long since;
+        try {
+            since = request.getDateHeader("If-Modified-Since");
+        } catch (IllegalArgumentException e) {
+            // Unparseable dates are ignored, as if the header were absent
+            return false;
+        }
+        // HTTP dates have second precision
+        return since >= 0 && lastModified / 1000 <= since / 1000;
+    }
+
+    /** First of the month, or the catalog publish time when the data changed after that. */
+    static long lastModified(YearMonth month, long catalogPublishedAt) {
+        return Math.max(firstDayOfMonthMillis(month), catalogPublishedAt);
+    }
+
+    // Same instant the controllers send as Last-Modified
+    static long firstDayOfMonthMillis(YearMonth month) {
+        LocalDate firstDay = month.atDay(1);
+        return firstDay.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public Stats stats() {
+        long total = evaluated.sum();
+        long byEtag = notModifiedByEtag.sum();
+        long byDate = notModifiedByDate.sum();
+        return new Stats(total, byEtag, byDate, total == 0 ? 0 : (double) (byEtag + byDate) / total);
+    }
+
+    /**
+     * Raises the controllers' first-of-month Last-Modified to the value this
+     * filter validates against, so a client's next If-Modified-Since matches.
+     */
+    private static final class LastModifiedResponse extends HttpServletResponseWrapper {
+
+        private final long lastModified;
+
+        LastModifiedResponse(HttpServletResponse response, long lastModified) {
+            super(response);
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public void setDateHeader(String name, long date) {
+            super.setDateHeader(name, "Last-Modified".equalsIgnoreCase(name) ? Math.max(date, lastModified) : date);
+        }
+
+        @Override
+        public void addDateHeader(String name, long date) {
+            super.addDateHeader(name, "Last-Modified".equalsIgnoreCase(name) ? Math.max(date, lastModified) : date);
+        }
+    }
+
+    /** Counters since startup; {@code hitRate} is the share answered with 304. */
+    public record Stats(long evaluated, long notModifiedByEtag, long notModifiedByDate, double hitRate) {
+    }
+}
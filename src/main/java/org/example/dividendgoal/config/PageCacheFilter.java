@@ -0,0 +1,168 @@
+package org.example.dividendgoal.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.dividendgoal.seo.CanonicalUrls;
+import org.example.dividendgoal.service.StockDataService;
+import org.example.dividendgoal.util.Compression;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [Performance] Rendered-page cache for the canonical SSR routes.
+ *
+ * A calculator page is a pure function of its URL, the dataset and the month
+ * (pages print "Updated Month Year"), so the first render of the day is kept,
+ * keyed on canonical URL + catalog version + day, as raw and gzip bytes. Every
+ * later hit, mostly crawlers, is a hash lookup and a copy of the bytes: no
+ * calculation, no content generation, no Thymeleaf, no per-request compression
+ * (Tomcat skips bodies that already carry a Content-Encoding).
+ *
+ * Eviction is by bytes: {@code page-cache.max-bytes}, or by default a
+ * sixteenth of the heap capped at 64 MB (16 MB under the Dockerfile's
+ * {@code -Xmx256m}). A dataset reload changes the version, so stale pages are
+ * simply never looked up again and age out.
+ * Only successful HTML responses without a query string or cookies are stored.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class PageCacheFilter extends OncePerRequestFilter {
+
+    static final String CACHE_HEADER = "X-Page-Cache";
+
+    private static final List<String> CACHED_PREFIXES = List.of(
+            "/how-much-dividend/",
+            "/how-much-income/",
+            "/compare/",
+            "/lifestyle/pay-for-",
+            "/lifestyle/cost-of-");
+
+    // Headers the controllers set that must be replayed with the cached body
+    private static final List<String> REPLAYED_HEADERS = List.of(
+            "Cache-Control", "Last-Modified", "X-Robots-Tag", "Content-Language");
+
+    // Key, header strings and object headers, roughly
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    static final int HEAP_FRACTION = 16;
+    static final long MAX_DEFAULT_BYTES = 64L * 1024 * 1024;
+
+    private final StockDataService stockDataService;
+    private final boolean enabled;
+    private final Cache<String, CachedPage> pages;
+
+    public PageCacheFilter(StockDataService stockDataService,
+            @Value("${page-cache.enabled:true}") boolean enabled,
+            @Value("${page-cache.max-bytes:0}") long maxBytes) {
+        this.stockDataService = stockDataService;
+        this.enabled = enabled;
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(budget(maxBytes, Runtime.getRuntime().maxMemory()))
+                .weigher((String key, CachedPage page) -> page.weight())
+                .expireAfterWrite(1, TimeUnit.DAYS)
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"GET".equals(request.getMethod()) || request.getQueryString() != null
+                || !isCachedRoute(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = key(request);
+        CachedPage page = pages.getIfPresent(key);
+        if (page != null) {
+            page.writeTo(response, Compression.acceptsGzip(request.getHeader("Accept-Encoding")));
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        page = capture(wrapper);
+        if (page != null) {
+            pages.put(key, page);
+            wrapper.setHeader(CACHE_HEADER, "MISS");
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    /** The configured byte budget, or for 0 a share of {@code maxHeap} (Long.MAX_VALUE when unbounded). */
+    static long budget(long configured, long maxHeap) {
+        if (configured > 0) {
+            return configured;
+        }
+        return Math.min(maxHeap / HEAP_FRACTION, MAX_DEFAULT_BYTES);
+    }
+
+    static boolean isCachedRoute(String path) {
+        for (String prefix : CACHED_PREFIXES) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String key(HttpServletRequest request) {
+        return CanonicalUrls.fromRequest(request) + '|' + stockDataService.getCatalog().getVersion() + '|'
+                + LocalDate.now();
+    }
+
+    private static CachedPage capture(ContentCachingResponseWrapper response) throws IOException {
+        String contentType = response.getContentType();
+        if (response.getStatus() != HttpServletResponse.SC_OK || contentType == null
+                || !contentType.startsWith("text/html") || response.containsHeader("Set-Cookie")
+                || response.containsHeader("Content-Encoding")) {
+            return null;
+        }
+        byte[] raw = response.getContentAsByteArray();
+        List<String[]> headers = new ArrayList<>(REPLAYED_HEADERS.size());
+        for (String name : REPLAYED_HEADERS) {
+            String value = response.getHeader(name);
+            if (value != null) {
+                headers.add(new String[] { name, value });
+            }
+        }
+        return new CachedPage(contentType, headers, raw, Compression.gzip(raw));
+    }
+
+    record CachedPage(String contentType, List<String[]> headers, byte[] raw, byte[] gzip) {
+
+        int weight() {
+            return raw.length + gzip.length + ENTRY_OVERHEAD_BYTES;
+        }
+
+        void writeTo(HttpServletResponse response, boolean gzipped) throws IOException {
+            byte[] body = gzipped ? gzip : raw;
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(contentType);
+            for (String[] header : headers) {
+                response.setHeader(header[0], header[1]);
+            }
+            response.setHeader("Vary", "Accept-Encoding");
+            response.setHeader(CACHE_HEADER, "HIT");
+            if (gzipped) {
+                response.setHeader("Content-Encoding", "gzip");
+            }
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.dividendgoal.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.dividendgoal.prerender.StaticSiteManifest;
+import org.example.dividendgoal.service.StockDataService;
+import org.example.dividendgoal.util.Compression;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * [Performance] Serves the pre-rendered site ({@code static-pages.dir}, built by
+ * the {@code staticSite} Gradle task) straight from disk.
+ *
+ * Under Tomcat the body goes out through its sendfile support, so the kernel
+ * copies the file to the socket and the JVM never touches the bytes. Elsewhere
+ * it falls back to {@link FileChannel#transferTo}. Files are only used while the
+ * live catalog version and the current month match the manifest; after a
+ * dataset reload or a month change, and for every path not in the manifest,
+ * the request falls through to dynamic rendering (and the page cache). That
+ * is enough because the pages carry no finer date than the month: the dates
+ * they show and put in JSON-LD are the first of the month, like Last-Modified.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 25)
+public class StaticPageFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StaticPageFilter.class);
+
+    static final String STATIC_HEADER = "X-Static-Page";
+
+    // Tomcat's sendfile contract (the same attributes its DefaultServlet sets)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final StockDataService stockDataService;
+    private final String catalogVersion;
+    private final String month;
+    private final Map<String, StaticPage> pages;
+
+    public StaticPageFilter(StockDataService stockDataService, @Value("${static-pages.dir:}") String siteDir) {
+        this.stockDataService = stockDataService;
+        StaticSiteManifest manifest = siteDir.isBlank() ? null : load(Path.of(siteDir));
+        this.catalogVersion = manifest == null ? null : manifest.catalogVersion();
+        this.month = manifest == null ? null : manifest.month();
+        this.pages = manifest == null ? Map.of() : index(Path.of(siteDir), manifest);
+    }
+
+    private static StaticSiteManifest load(Path siteDir) {
+        try {
+            return StaticSiteManifest.read(siteDir);
+        } catch (IOException e) {
+            logger.warn("Static pages disabled: cannot read {} in {}", StaticSiteManifest.FILE_NAME, siteDir, e);
+            return null;
+        }
+    }
+
+    static Map<String, StaticPage> index(Path siteDir, StaticSiteManifest manifest) {
+        Path root = siteDir.toAbsolutePath().normalize();
+        Map<String, StaticPage> index = new HashMap<>(manifest.pages().size() * 2);
+        for (StaticSiteManifest.Page page : manifest.pages()) {
+            Path raw = root.resolve(page.file());
+            Path gzip = root.resolve(page.gzipFile());
+            if (Files.isRegularFile(raw) && Files.isRegularFile(gzip)) {
+                index.put(page.path(), new StaticPage(raw, page.bytes(), gzip, page.gzipBytes(), page.headers()));
+            } else {
+                logger.warn("Static page {} listed in the manifest but missing on disk", page.path());
+            }
+        }
+        logger.info("Static pages: {} files for catalog {} ({})", index.size(), manifest.catalogVersion(),
+                manifest.month());
+        return index;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return pages.isEmpty() || !("GET".equals(method) || "HEAD".equals(method))
+                || request.getQueryString() != null || !pages.containsKey(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!isCurrent()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        StaticPage page = pages.get(request.getRequestURI());
+        boolean gzipped = Compression.acceptsGzip(request.getHeader("Accept-Encoding"));
+        Path file = gzipped ? page.gzip() : page.raw();
+        long length = gzipped ? page.gzipBytes() : page.rawBytes();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        page.headers().forEach(response::setHeader);
+        response.setHeader("Vary", "Accept-Encoding");
+        response.setHeader(STATIC_HEADER, "HIT");
+        if (gzipped) {
+            response.setHeader("Content-Encoding", "gzip");
+        }
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < length) {
+                long sent = channel.transferTo(position, length - position, out);
+                if (sent <= 0) {
+                    // The file shrank under us (a redeploy mid-request); the promised length can no longer
+                    // be met, so abort instead of spinning and let the container drop the connection
+                    throw new IOException("Static page " + file + " ended after " + position + " of " + length
+                            + " bytes");
+                }
+                position += sent;
+            }
+        }
+    }
+
+    // The files hold the dataset and the month they were rendered from
+    private boolean isCurrent() {
+        return catalogVersion.equals(stockDataService.getCatalog().getVersion())
+                && month.equals(YearMonth.now().toString());
+    }
+
+    record StaticPage(Path raw, long rawBytes, Path gzip, long gzipBytes, Map<String, String> headers) {
+    }
+}
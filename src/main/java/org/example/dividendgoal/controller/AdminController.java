@@ -0,0 +1,87 @@
+package org.example.dividendgoal.controller;
+
+import org.example.dividendgoal.config.ConditionalGetFilter;
+import org.example.dividendgoal.service.StockDataService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Operational endpoints. Disabled (404) unless {@code admin.token} is configured,
+ * and every call must present the same token in the {@code X-Admin-Token} header.
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private static final long RELOAD_TIMEOUT_SECONDS = 30;
+
+    private final StockDataService stockDataService;
+    private final ConditionalGetFilter conditionalGetFilter;
+    private final byte[] adminToken;
+
+    public AdminController(StockDataService stockDataService, ConditionalGetFilter conditionalGetFilter,
+            @Value("${admin.token:}") String adminToken) {
+        this.stockDataService = stockDataService;
+        this.conditionalGetFilter = conditionalGetFilter;
+        this.adminToken = adminToken == null ? new byte[0] : adminToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @PostMapping("/reload-stocks")
+    public ResponseEntity<StockDataService.ReloadResult> reloadStocks(
+            @RequestHeader(value = "X-Admin-Token", required = false) String token) {
+        authorize(token);
+        try {
+            StockDataService.ReloadResult result = stockDataService.reloadStocks()
+                    .get(RELOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return ResponseEntity.status(result.applied() ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(result);
+        } catch (TimeoutException e) {
+            // The reload keeps running on its own thread; the swap happens when it finishes
+            return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Reload interrupted");
+        } catch (ExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Reload failed", e.getCause());
+        }
+    }
+
+    /** Most requested unsupported tickers (estimated counts), highest first. */
+    @GetMapping("/missing-tickers")
+    public Map<String, Long> missingTickers(@RequestHeader(value = "X-Admin-Token", required = false) String token) {
+        authorize(token);
+        return stockDataService.getMissingTickerSummary();
+    }
+
+    /** 304 rate of page revalidations since startup. */
+    @GetMapping("/conditional-get")
+    public ConditionalGetFilter.Stats conditionalGet(
+            @RequestHeader(value = "X-Admin-Token", required = false) String token) {
+        authorize(token);
+        return conditionalGetFilter.stats();
+    }
+
+    private void authorize(String token) {
+        if (adminToken.length == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        byte[] presented = token == null ? new byte[0] : token.getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(adminToken, presented)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Invalid admin token");
+        }
+    }
+}
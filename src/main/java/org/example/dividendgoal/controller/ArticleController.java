@@ -86,7 +86,6 @@ public class ArticleController {
         model.addAttribute("pageDescription",
                 "Top list of monthly dividend stocks like Realty Income (O) and Main Street Capital (MAIN). Yields, risks, and how to build a monthly paycheck.");
         model.addAttribute("canonicalUrl", AppConstants.BASE_URL + "/articles/best-monthly-dividend-stocks");
-        model.addAttribute("stocks", stockDataService.getAllStocks());
         return "articles/best-monthly-dividend-stocks";
     }
 }
@@ -0,0 +1,58 @@
+package org.example.dividendgoal.controller;
+
+import org.example.dividendgoal.service.BacktestService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * Historical dividend backtests, e.g.
+ * {@code /api/backtest?ticker=SCHD&amount=10000&startYear=2015} for one ticker or
+ * {@code POST /api/backtest} with
+ * {@code {"startYear":2015,"holdings":[{"ticker":"SCHD","amount":6000},{"ticker":"O","amount":4000}]}}.
+ */
+@RestController
+@RequestMapping("/api/backtest")
+public class BacktestController {
+
+    private final BacktestService backtestService;
+
+    public BacktestController(BacktestService backtestService) {
+        this.backtestService = backtestService;
+    }
+
+    @GetMapping
+    public BacktestService.Result single(@RequestParam("ticker") String ticker,
+            @RequestParam("amount") double amount,
+            @RequestParam("startYear") int startYear,
+            @RequestParam(value = "endYear", required = false) Integer endYear,
+            @RequestParam(value = "reinvest", defaultValue = "true") boolean reinvest) {
+        return run(List.of(new BacktestService.HoldingInput(ticker, amount)), startYear, endYear, reinvest);
+    }
+
+    @PostMapping
+    public BacktestService.Result portfolio(@RequestBody BacktestRequest request) {
+        return run(request.holdings(), request.startYear(), request.endYear(),
+                request.reinvest() == null || request.reinvest());
+    }
+
+    private BacktestService.Result run(List<BacktestService.HoldingInput> holdings, int startYear, Integer endYear,
+            boolean reinvest) {
+        try {
+            return backtestService.backtest(holdings, startYear, endYear, reinvest);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    public record BacktestRequest(int startYear, Integer endYear, Boolean reinvest,
+            List<BacktestService.HoldingInput> holdings) {
+    }
+}
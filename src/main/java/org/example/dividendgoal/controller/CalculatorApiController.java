@@ -1,22 +1,57 @@
 package org.example.dividendgoal.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.dividendgoal.model.DripBand;
+import org.example.dividendgoal.model.Stock;
+import org.example.dividendgoal.service.BatchCalculationService;
+import org.example.dividendgoal.service.CapitalGridService;
 import org.example.dividendgoal.service.DividendCalculationService;
+import org.example.dividendgoal.service.DripMonteCarloService;
+import org.example.dividendgoal.service.DripProjectionEngine;
+import org.example.dividendgoal.service.DripSimulationService;
+import org.example.dividendgoal.service.GoalSeekService;
+import org.example.dividendgoal.service.StockDataService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/calculator")
 public class CalculatorApiController {
 
     private final DividendCalculationService calculationService;
+    private final BatchCalculationService batchCalculationService;
+    private final DripSimulationService dripSimulationService;
+    private final StockDataService stockDataService;
+    private final GoalSeekService goalSeekService;
+    private final CapitalGridService capitalGridService;
 
-    public CalculatorApiController(DividendCalculationService calculationService) {
+    public CalculatorApiController(DividendCalculationService calculationService,
+            BatchCalculationService batchCalculationService,
+            DripSimulationService dripSimulationService,
+            StockDataService stockDataService,
+            GoalSeekService goalSeekService,
+            CapitalGridService capitalGridService) {
         this.calculationService = calculationService;
+        this.batchCalculationService = batchCalculationService;
+        this.dripSimulationService = dripSimulationService;
+        this.stockDataService = stockDataService;
+        this.goalSeekService = goalSeekService;
+        this.capitalGridService = capitalGridService;
     }
 
     @PostMapping("/freedom-date")
@@ -38,4 +73,144 @@ public class CalculatorApiController {
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * [Performance] Evaluates up to {@link BatchCalculationService#MAX_SCENARIOS}
+     * scenarios per request, e.g.
+     * {@code [{"ticker":"SCHD","amount":1000,"contribution":500,"horizon":10,"capital":50000}]}.
+     * The body is read and the response written as token streams.
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public void calculateBatch(InputStream body, HttpServletResponse response) throws IOException {
+        BatchCalculationService.Batch batch;
+        try {
+            batch = batchCalculationService.read(body);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        batchCalculationService.evaluate(batch);
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        batchCalculationService.write(batch, response.getOutputStream());
+    }
+
+    /**
+     * Monte Carlo DRIP bands, e.g.
+     * {@code /api/calculator/drip-simulation?ticker=SCHD&capital=100000&years=10}.
+     */
+    @GetMapping("/drip-simulation")
+    public DripSimulationResponse simulateDrip(@RequestParam("ticker") String ticker,
+            @RequestParam("capital") double capital,
+            @RequestParam(value = "years", defaultValue = "10") int years) {
+        if (capital <= 0 || years < 1 || years > DripMonteCarloService.MAX_YEARS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "capital must be positive and years 1-" + DripMonteCarloService.MAX_YEARS);
+        }
+        Stock stock = stockDataService.findByTicker(ticker)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown ticker"));
+        try {
+            return new DripSimulationResponse(stock.getTicker(), capital, dripSimulationService.getMonteCarloPaths(),
+                    dripSimulationService.simulateMonteCarlo(stock, capital, years));
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Simulator busy, retry shortly", e);
+        }
+    }
+
+    public record DripSimulationResponse(String ticker, double capital, int paths, List<DripBand> years) {
+    }
+
+    /**
+     * Month-by-month DRIP schedule with contributions, 15.4% tax on dividends and
+     * dividend growth, e.g.
+     * {@code /api/calculator/drip-projection?ticker=SCHD&capital=10000&contribution=500&years=25}.
+     */
+    @GetMapping("/drip-projection")
+    public DripProjectionResponse projectDrip(@RequestParam("ticker") String ticker,
+            @RequestParam("capital") double capital,
+            @RequestParam(value = "contribution", defaultValue = "0") double contribution,
+            @RequestParam(value = "years", defaultValue = "10") int years) {
+        if (capital < 0 || contribution < 0 || years < 1 || years > DripProjectionEngine.MAX_YEARS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "capital and contribution must not be negative and years 1-" + DripProjectionEngine.MAX_YEARS);
+        }
+        Stock stock = stockDataService.findByTicker(ticker)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown ticker"));
+        DripProjectionEngine.Schedule schedule = dripSimulationService.project(stock, capital, contribution, years);
+        List<DripProjectionRow> rows = new ArrayList<>(years);
+        for (int year = 1; year <= years; year++) {
+            rows.add(new DripProjectionRow(year, round2(schedule.capital(year)), round2(schedule.contributed(year)),
+                    round2(schedule.dividends(year)), round2(schedule.monthlyIncome(year))));
+        }
+        return new DripProjectionResponse(stock.getTicker(), DripProjectionEngine.paymentsPerYear(stock.getFrequency()),
+                DividendCalculationService.DIVIDEND_TAX_RATE, rows);
+    }
+
+    /**
+     * Goal seek: the monthly contribution needed for an after-tax monthly income
+     * of {@code targetIncome} after {@code years}, e.g.
+     * {@code {"ticker":"SCHD","targetIncome":2000,"years":15,"startingCapital":10000}}.
+     * Without a ticker, {@code yield} (and optionally {@code growth}) is used with
+     * quarterly payments.
+     */
+    @PostMapping("/required-contribution")
+    public GoalSeekService.Solution calculateRequiredContribution(@RequestBody GoalSeekRequest request) {
+        if (request.targetIncome() <= 0 || request.years() < 1 || request.years() > DripProjectionEngine.MAX_YEARS
+                || request.startingCapital() < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "targetIncome must be positive, startingCapital not negative and years 1-"
+                            + DripProjectionEngine.MAX_YEARS);
+        }
+        GoalSeekService.Goal goal;
+        if (request.ticker() != null && !request.ticker().isBlank()) {
+            Stock stock = stockDataService.findByTicker(request.ticker())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown ticker"));
+            goal = new GoalSeekService.Goal(stock.getYield(), stock.getDividendGrowth(),
+                    DripProjectionEngine.paymentsPerYear(stock.getFrequency()), request.targetIncome(),
+                    request.years(), request.startingCapital());
+        } else if (request.yield() != null && request.yield() > 0) {
+            goal = new GoalSeekService.Goal(request.yield(), request.growth() == null ? 0 : request.growth(), 4,
+                    request.targetIncome(), request.years(), request.startingCapital());
+        } else {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ticker or a positive yield is required");
+        }
+        return goalSeekService.solve(goal);
+    }
+
+    public record GoalSeekRequest(String ticker, Double yield, Double growth, double targetIncome, int years,
+            double startingCapital) {
+    }
+
+    /**
+     * [Performance] Required-capital grid (yield 1-15% x $100-$10,000/month, gross
+     * and net). Precomputed bytes with a strong ETag; requested as
+     * {@code /api/calculator/grid?v=<version>} it is cacheable forever.
+     */
+    @GetMapping("/grid")
+    public ResponseEntity<byte[]> capitalGrid(@RequestParam(value = "v", required = false) String version,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = capitalGridService.getEtag();
+        CacheControl cacheControl = capitalGridService.getVersion().equals(version)
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()
+                : CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic();
+        if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || ifNoneMatch.trim().equals("*"))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(capitalGridService.getJson());
+    }
+
+    private static double round2(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    public record DripProjectionResponse(String ticker, int paymentsPerYear, double taxRate,
+            List<DripProjectionRow> years) {
+    }
+
+    public record DripProjectionRow(int year, double capital, double contributed, double dividends,
+            double monthlyIncome) {
+    }
 }
@@ -0,0 +1,52 @@
+package org.example.dividendgoal.controller;
+
+import org.example.dividendgoal.catalog.CatalogJson;
+import org.example.dividendgoal.service.StockDataService;
+import org.example.dividendgoal.util.Compression;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [Performance] Fingerprinted stock universe, e.g. {@code /api/catalog.3f2a9c0e1b7d4a55.json}.
+ * Any stale hash redirects to the current one.
+ */
+@RestController
+public class CatalogJsonController {
+
+    private final StockDataService stockDataService;
+
+    public CatalogJsonController(StockDataService stockDataService) {
+        this.stockDataService = stockDataService;
+    }
+
+    @GetMapping("/api/catalog.{hash}.json")
+    public ResponseEntity<byte[]> catalog(@PathVariable("hash") String hash,
+            @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
+        CatalogJson catalog = stockDataService.getCatalogJson();
+        if (!catalog.hash().equals(hash)) {
+            // Old bytes are gone after a reload; point stale pages at the current version
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .header("Location", catalog.path())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        // The URL changes whenever the bytes do, so they can be cached forever
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag('"' + catalog.hash() + '"')
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Vary", "Accept-Encoding");
+        if (Compression.acceptsGzip(acceptEncoding)) {
+            return response.header("Content-Encoding", "gzip").body(catalog.gzip());
+        }
+        return response.body(catalog.json());
+    }
+}
@@ -97,7 +97,8 @@ public class ComparisonController {
                 model.addAttribute("pageHeading", h1Text);
                 model.addAttribute("pageTitle", pageTitle);
                 model.addAttribute("pageDescription", pageDescription);
-                model.addAttribute("currentDate", LocalDate.now().toString());
+                // Same date as Last-Modified, so the page stays byte-identical for the whole month
+                model.addAttribute("currentDate", LocalDate.now().withDayOfMonth(1).toString());
                 model.addAttribute("canonicalUrl",
                                 CanonicalUrls.absolutePath("/compare/" + s1.getTicker() + "-vs-" + s2.getTicker()));
                 model.addAttribute("shouldIndex", SeoPolicy.isIndexableComparisonPage(s1.getTicker(), s2.getTicker()));
@@ -135,7 +136,7 @@ public class ComparisonController {
                                   "description": "Side-by-side comparison of dividend yield, growth, and risk.",
                                   "dateModified": "%s"
                                 }
-                                """, s1.getTicker(), s2.getTicker(), LocalDate.now().toString());
+                                """, s1.getTicker(), s2.getTicker(), LocalDate.now().withDayOfMonth(1).toString());
         }
 
         // [SEO Strategy] Condition-based Title
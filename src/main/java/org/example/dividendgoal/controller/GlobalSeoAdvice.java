@@ -22,7 +22,8 @@ public class GlobalSeoAdvice {
         String monthYear = now.format(DateTimeFormatter.ofPattern("MMMM yyyy"));
         String refreshText = "Updated " + monthYear;
         model.addAttribute("currentYear", now.getYear());
-        model.addAttribute("currentDate", now.format(DateTimeFormatter.ISO_LOCAL_DATE));
+        // Month granularity, like Last-Modified: a page's bytes only change when the month (or data) does
+        model.addAttribute("currentDate", now.withDayOfMonth(1).format(DateTimeFormatter.ISO_LOCAL_DATE));
         model.addAttribute("refreshText", refreshText);
 
         // [SEO] Canonical URL for all pages (prevents duplicate content issues)
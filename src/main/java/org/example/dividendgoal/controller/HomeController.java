@@ -28,7 +28,6 @@ public class HomeController {
     @GetMapping("/")
     public String home(HttpServletResponse response, Model model) {
         setCacheControl(response);
-        model.addAttribute("stocks", stockDataService.getAllStocks());
         var comparisonSpotlights = SeoPolicy.getComparisonSpotlights(stockDataService.getAvailableTickers());
         model.addAttribute("etfComparisons", comparisonSpotlights.stream()
                 .filter(spotlight -> "Dividend ETF".equals(spotlight.category()))
@@ -50,7 +49,7 @@ public class HomeController {
         String refreshText = "Updated " + monthYear;
 
         model.addAttribute("currentYear", now.getYear());
-        model.addAttribute("currentDate", now.format(DateTimeFormatter.ISO_LOCAL_DATE)); // 2026-01-15
+        model.addAttribute("currentDate", now.withDayOfMonth(1).format(DateTimeFormatter.ISO_LOCAL_DATE)); // 2026-01-01
         model.addAttribute("refreshText", refreshText);
 
         // Update Title and Description with Freshness info
@@ -2,6 +2,7 @@ package org.example.dividendgoal.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.dividendgoal.catalog.StockCatalog;
 import org.example.dividendgoal.model.LifestyleItem;
 import org.example.dividendgoal.model.Stock;
 import org.example.dividendgoal.seo.CanonicalUrls;
@@ -10,6 +11,7 @@ import org.example.dividendgoal.service.DividendCalculationService;
 import org.example.dividendgoal.service.DripSimulationService;
 import org.example.dividendgoal.service.LifestyleService;
 import org.example.dividendgoal.service.StockDataService;
+import org.example.dividendgoal.service.VariantSelector;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -19,11 +21,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Random;
 import java.text.DecimalFormat;
 
 @Controller
@@ -33,15 +31,18 @@ public class LifestyleController {
         private final LifestyleService lifestyleService;
         private final DividendCalculationService calculationService;
         private final DripSimulationService dripSimulationService;
-        private final Random random = new Random();
+        private final VariantSelector variantSelector;
         private static final DecimalFormat DOLLAR_FORMAT = new DecimalFormat("#,###.##");
+        private static final int[] TIME_MACHINE_YEARS = { 1, 3, 5, 10 };
 
         public LifestyleController(StockDataService stockDataService, LifestyleService lifestyleService,
-                        DividendCalculationService calculationService, DripSimulationService dripSimulationService) {
+                        DividendCalculationService calculationService, DripSimulationService dripSimulationService,
+                        VariantSelector variantSelector) {
                 this.stockDataService = stockDataService;
                 this.lifestyleService = lifestyleService;
                 this.calculationService = calculationService;
                 this.dripSimulationService = dripSimulationService;
+                this.variantSelector = variantSelector;
         }
 
         @GetMapping("/lifestyle/cost-of-{itemSlug}-vs-{ticker}-dividend")
@@ -86,29 +87,21 @@ public class LifestyleController {
                 model.addAttribute("requiredInvestment", requiredInvestment);
                 model.addAttribute("formattedRequiredInvestment", DOLLAR_FORMAT.format(requiredInvestment));
                 model.addAttribute("calculationMode", "TARGET");
-                model.addAttribute("stocks", stockDataService.getAllStocks());
 
                 if (isDataAvailable) {
                         model.addAttribute("dripProjections",
-                                        dripSimulationService.simulate(requiredInvestment, stock.getYield()));
-                        model.addAttribute("lifestyleMeaning", getLifestyleComment(monthlyCost));
+                                        dripSimulationService.simulate(stock, requiredInvestment));
+                        model.addAttribute("lifestyleMeaning", getLifestyleComment(monthlyCost, CanonicalUrls.fromRequest(request)));
 
                         // Time Machine
                         if (stock.getDividendGrowth() > 0) {
-                                List<Map<String, Object>> timeMachine = new ArrayList<>();
-                                int[] yearsToCheck = { 1, 3, 5, 10 };
-                                for (int year : yearsToCheck) {
-                                        double futureCap = calculationService.calculateHypotheticalCapital(
-                                                        monthlyCost, stock.getYield(), stock.getDividendGrowth(), year);
-                                        double savedMoney = requiredInvestment - futureCap;
-
-                                        Map<String, Object> data = new HashMap<>();
-                                        data.put("year", year);
-                                        data.put("capital", futureCap);
-                                        data.put("saved", savedMoney);
-                                        timeMachine.add(data);
+                                StockCatalog catalog = stockDataService.getCatalog();
+                                int ordinal = catalog.ordinalOf(stock.getTicker());
+                                if (ordinal >= 0) {
+                                        model.addAttribute("timeMachine", calculationService.buildTimeMachine(
+                                                        catalog.getMetrics(), ordinal, monthlyCost,
+                                                        requiredInvestment, TIME_MACHINE_YEARS));
                                 }
-                                model.addAttribute("timeMachine", timeMachine);
                         }
                 }
 
@@ -157,14 +150,14 @@ public class LifestyleController {
                 String refreshText = "Updated " + monthYear;
 
                 model.addAttribute("currentYear", now.getYear());
-                model.addAttribute("currentDate", now.format(DateTimeFormatter.ISO_LOCAL_DATE));
+                model.addAttribute("currentDate", now.withDayOfMonth(1).format(DateTimeFormatter.ISO_LOCAL_DATE));
                 model.addAttribute("refreshText", refreshText);
 
                 model.addAttribute("pageTitle", baseTitle + " (" + refreshText + ")");
                 model.addAttribute("pageDescription", refreshText + " | " + baseDescription);
         }
 
-        private String getLifestyleComment(double amount) {
+        private String getLifestyleComment(double amount, String canonicalUrl) {
                 List<String> options;
                 if (amount < 50) {
                         options = List.of(
@@ -203,7 +196,7 @@ public class LifestyleController {
                                         "🌍 Travel the world forever. You have won the capitalism game.",
                                         "👑 Top 1% earner. Your money is working harder than you ever did.");
                 }
-                return options.get(random.nextInt(options.size()));
+                return variantSelector.pick(canonicalUrl, options);
         }
 
         // [SEO Strategy] Verification Title (No Clickbait, No "Analysis" bore)
@@ -0,0 +1,90 @@
+package org.example.dividendgoal.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.dividendgoal.seo.CanonicalUrls;
+import org.example.dividendgoal.service.AllocationOptimizerService;
+import org.example.dividendgoal.service.PortfolioService;
+import org.example.dividendgoal.service.StockDataService;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Multi-holding income planner: the {@code /portfolio} page and the
+ * {@code POST /api/portfolio} endpoint it calls, e.g.
+ * {@code {"capital":100000,"years":10,"holdings":[{"ticker":"SCHD","weight":60},{"ticker":"O","weight":40}]}},
+ * plus the allocation optimizer that suggests such a mix.
+ */
+@Controller
+public class PortfolioController {
+
+    private static final int DEFAULT_YEARS = 10;
+
+    private final PortfolioService portfolioService;
+    private final AllocationOptimizerService allocationOptimizerService;
+    private final StockDataService stockDataService;
+
+    public PortfolioController(PortfolioService portfolioService,
+            AllocationOptimizerService allocationOptimizerService, StockDataService stockDataService) {
+        this.portfolioService = portfolioService;
+        this.allocationOptimizerService = allocationOptimizerService;
+        this.stockDataService = stockDataService;
+    }
+
+    @GetMapping("/portfolio")
+    public String portfolioPage(HttpServletRequest request, Model model) {
+        model.addAttribute("currentUrl", CanonicalUrls.fromRequest(request));
+        model.addAttribute("currentYear", LocalDate.now().getYear());
+        model.addAttribute("maxHoldings", PortfolioService.MAX_HOLDINGS);
+        // [Performance] Every row picks a ticker, so the picker loads the universe once from this
+        // immutable, fingerprinted URL and filters locally instead of calling the suggest API per keystroke
+        model.addAttribute("catalogUrl", stockDataService.getCatalogJson().path());
+        return "portfolio";
+    }
+
+    @PostMapping("/api/portfolio")
+    @ResponseBody
+    public PortfolioService.Result simulate(@RequestBody PortfolioRequest request) {
+        try {
+            return portfolioService.simulate(request.holdings(), request.capital(),
+                    request.years() == null ? DEFAULT_YEARS : request.years());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Least-capital mix for a net monthly income target, e.g.
+     * {@code /api/portfolio/optimize?target=2000&maxRisk=MEDIUM&maxWeight=20}.
+     */
+    @GetMapping("/api/portfolio/optimize")
+    @ResponseBody
+    public AllocationOptimizerService.Allocation optimize(@RequestParam("target") double target,
+            @RequestParam(value = "maxRisk", defaultValue = "HIGH") String maxRisk,
+            @RequestParam(value = "maxWeight", defaultValue = "20") double maxWeight,
+            @RequestParam(value = "maxSectorWeight", defaultValue = "100") double maxSectorWeight,
+            @RequestParam(value = "excludeDividendCuts", defaultValue = "false") boolean excludeDividendCuts) {
+        if (!(target > 0)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "target must be positive");
+        }
+        try {
+            AllocationOptimizerService.Constraints constraints = new AllocationOptimizerService.Constraints(
+                    maxRisk, maxWeight, maxSectorWeight, excludeDividendCuts);
+            return allocationOptimizerService.optimalMix(constraints).allocate(target);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    public record PortfolioRequest(double capital, Integer years, List<PortfolioService.HoldingInput> holdings) {
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.dividendgoal.controller;
+
+import org.example.dividendgoal.catalog.ScreenerIndex;
+import org.example.dividendgoal.catalog.ScreenerQuery;
+import org.example.dividendgoal.model.Stock;
+import org.example.dividendgoal.service.StockDataService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * Stock screener, e.g.
+ * {@code /api/screener?risk=LOW&risk=MEDIUM&sector=REIT&minYield=4&sort=growth&page=0&size=20}.
+ * Multi-value filters (risk, sector, frequency) match any of the given values.
+ */
+@RestController
+@RequestMapping("/api/screener")
+public class ScreenerController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final StockDataService stockDataService;
+
+    public ScreenerController(StockDataService stockDataService) {
+        this.stockDataService = stockDataService;
+    }
+
+    @GetMapping
+    public ScreenerResponse screen(ScreenerQuery query) {
+        if (query.getPage() < 0 || query.getSize() < 1 || query.getSize() > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        ScreenerIndex.Result result;
+        try {
+            result = stockDataService.getCatalog().getScreener().screen(query);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        List<Row> rows = result.stocks().stream().map(Row::of).toList();
+        return new ScreenerResponse(result.total(), query.getPage(), query.getSize(), rows);
+    }
+
+    public record ScreenerResponse(int total, int page, int size, List<Row> items) {
+    }
+
+    /** Screening columns only; the full profile (history, description) lives on the stock page. */
+    public record Row(String ticker, String name, String sector, String frequency, String risk, double yield,
+            double dividendGrowth, double payoutRatio, int consecutiveGrowthYears, boolean dividendCutHistory) {
+
+        static Row of(Stock stock) {
+            return new Row(stock.getTicker(), stock.getName(), stock.getSector(), stock.getFrequency(),
+                    stock.getRisk(), stock.getYield(), stock.getDividendGrowth(), stock.getPayoutRatio(),
+                    stock.getConsecutiveGrowthYears(), stock.isDividendCutHistory());
+        }
+    }
+}
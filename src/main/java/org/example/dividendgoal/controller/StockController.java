@@ -1,6 +1,7 @@
 package org.example.dividendgoal.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.example.dividendgoal.catalog.StockCatalog;
 import org.example.dividendgoal.model.GeneratedContent;
 import org.example.dividendgoal.model.Stock;
 import org.example.dividendgoal.seo.CanonicalUrls;
@@ -16,16 +17,13 @@ import org.example.dividendgoal.service.ContentGenerationService;
 import org.example.dividendgoal.service.DividendCalculationService;
 import org.example.dividendgoal.service.DripSimulationService;
 import org.example.dividendgoal.service.StockDataService;
+import org.example.dividendgoal.service.VariantSelector;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 import java.text.DecimalFormat;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Random;
 
 @Controller
 public class StockController {
@@ -34,18 +32,21 @@ public class StockController {
     private final DividendCalculationService dividendCalculationService;
     private final ContentGenerationService contentGenerationService;
     private final DripSimulationService dripSimulationService;
+    private final VariantSelector variantSelector;
 
-    private final Random random = new Random();
     private static final DecimalFormat DOLLAR_FORMAT = new DecimalFormat("#,###.##");
+    private static final int[] TIME_MACHINE_YEARS = { 1, 3, 5, 10 };
 
     public StockController(StockDataService stockDataService,
             DividendCalculationService dividendCalculationService,
             ContentGenerationService contentGenerationService,
-            DripSimulationService dripSimulationService) {
+            DripSimulationService dripSimulationService,
+            VariantSelector variantSelector) {
         this.stockDataService = stockDataService;
         this.dividendCalculationService = dividendCalculationService;
         this.contentGenerationService = contentGenerationService;
         this.dripSimulationService = dripSimulationService;
+        this.variantSelector = variantSelector;
     }
 
     @GetMapping("/how-much-dividend/{amount}-per-month/{ticker}")
@@ -95,21 +96,12 @@ public class StockController {
 
         // --- 타임머신 로직 ---
         if (isDataAvailable && stock.getDividendGrowth() > 0) {
-            List<Map<String, Object>> timeMachine = new ArrayList<>();
-            int[] yearsToCheck = { 1, 3, 5, 10 };
-
-            for (int year : yearsToCheck) {
-                double futureCap = dividendCalculationService.calculateHypotheticalCapital(
-                        monthlyAmount, stock.getYield(), stock.getDividendGrowth(), year);
-                double savedMoney = requiredInvestment - futureCap;
-
-                Map<String, Object> data = new HashMap<>();
-                data.put("year", year);
-                data.put("capital", futureCap);
-                data.put("saved", savedMoney);
-                timeMachine.add(data);
+            StockCatalog catalog = stockDataService.getCatalog();
+            int ordinal = catalog.ordinalOf(stock.getTicker());
+            if (ordinal >= 0) {
+                model.addAttribute("timeMachine", dividendCalculationService.buildTimeMachine(
+                        catalog.getMetrics(), ordinal, monthlyAmount, requiredInvestment, TIME_MACHINE_YEARS));
             }
-            model.addAttribute("timeMachine", timeMachine);
         }
 
         // --- [NEW] 내부 링크 (Internal Linking) ---
@@ -126,9 +118,9 @@ public class StockController {
         model.addAttribute("content", generatedContent);
 
         if (isDataAvailable) {
-            model.addAttribute("dripProjections", dripSimulationService.simulate(requiredInvestment, stock.getYield()));
+            model.addAttribute("dripProjections", dripSimulationService.simulate(stock, requiredInvestment));
             // 멘트 생성기 호출
-            model.addAttribute("lifestyleMeaning", getLifestyleComment(monthlyAmount));
+            model.addAttribute("lifestyleMeaning", getLifestyleComment(monthlyAmount, CanonicalUrls.fromRequest(request)));
         } else {
             model.addAttribute("lifestyleMeaning", "Calculation unavailable due to missing data.");
         }
@@ -210,9 +202,9 @@ public class StockController {
         model.addAttribute("content", generatedContent);
 
         if (isDataAvailable) {
-            model.addAttribute("dripProjections", dripSimulationService.simulate(capital, stock.getYield()));
+            model.addAttribute("dripProjections", dripSimulationService.simulate(stock, capital));
             // 멘트 생성기 호출
-            model.addAttribute("lifestyleMeaning", getLifestyleComment(monthlyIncome));
+            model.addAttribute("lifestyleMeaning", getLifestyleComment(monthlyIncome, CanonicalUrls.fromRequest(request)));
         } else {
             model.addAttribute("lifestyleMeaning", "Calculation unavailable due to missing data.");
         }
@@ -255,7 +247,6 @@ public class StockController {
 
     private void addSharedAttributes(Model model, Stock stock) {
         model.addAttribute("stock", stock);
-        model.addAttribute("stocks", stockDataService.getAllStocks());
     }
 
     // [SEO] Freshness Automation Helper
@@ -265,7 +256,7 @@ public class StockController {
         String refreshText = "Updated " + monthYear;
 
         model.addAttribute("currentYear", now.getYear());
-        model.addAttribute("currentDate", now.format(DateTimeFormatter.ISO_LOCAL_DATE)); // 2026-01-15
+        model.addAttribute("currentDate", now.withDayOfMonth(1).format(DateTimeFormatter.ISO_LOCAL_DATE)); // 2026-01-01
         model.addAttribute("refreshText", refreshText);
 
         // Update Title and Description with Freshness info
@@ -292,7 +283,7 @@ public class StockController {
         }
     }
 
-    private String getLifestyleComment(double amount) {
+    private String getLifestyleComment(double amount, String canonicalUrl) {
         List<String> options;
 
         if (amount < 50) {
@@ -333,14 +324,15 @@ public class StockController {
                     "👑 Top 1% earner. Your money is working harder than you ever did.");
         }
 
-        return options.get(random.nextInt(options.size()));
+        return variantSelector.pick(canonicalUrl, options);
     }
 
     // [SEO] Advanced Schema Generator
     private String generateSchemaJson(Stock stock, double monthlyTarget, double capitalRequired) {
         String ticker = stock.getTicker();
         String name = stock.getName();
-        String today = LocalDate.now().toString();
+        // Same date as Last-Modified, so the page stays byte-identical for the whole month
+        String today = LocalDate.now().withDayOfMonth(1).toString();
 
         return String.format(
                 """
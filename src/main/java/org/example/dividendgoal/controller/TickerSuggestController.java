@@ -0,0 +1,47 @@
+package org.example.dividendgoal.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.dividendgoal.service.StockDataService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Typeahead for the ticker inputs, e.g. {@code /api/tickers/suggest?q=sch}.
+ * Replaces the full stock list that used to be inlined into every page.
+ */
+@RestController
+@RequestMapping("/api/tickers")
+public class TickerSuggestController {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 20;
+    private static final int MAX_QUERY_LENGTH = 40;
+
+    private final StockDataService stockDataService;
+
+    public TickerSuggestController(StockDataService stockDataService) {
+        this.stockDataService = stockDataService;
+    }
+
+    @GetMapping("/suggest")
+    public List<Suggestion> suggest(@RequestParam(value = "q", defaultValue = "") String query,
+            @RequestParam(value = "limit", defaultValue = "" + DEFAULT_LIMIT) int limit,
+            HttpServletResponse response) {
+        // [Performance] Same prefix, same answer until the dataset changes; let browsers reuse it briefly
+        response.setHeader("Cache-Control", "public, max-age=300");
+        if (query.length() > MAX_QUERY_LENGTH) {
+            return List.of();
+        }
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return stockDataService.getCatalog().getSuggestIndex().suggest(query, boundedLimit).stream()
+                .map(stock -> new Suggestion(stock.getTicker(), stock.getName()))
+                .toList();
+    }
+
+    public record Suggestion(String ticker, String name) {
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.dividendgoal.model;
+
+/**
+ * One year of a Monte Carlo DRIP projection: the 10th, 50th and 90th
+ * percentile of reinvested capital and of the monthly income it pays.
+ */
+public class DripBand {
+    private final int year;
+    private final double capitalP10;
+    private final double capitalP50;
+    private final double capitalP90;
+    private final double monthlyIncomeP10;
+    private final double monthlyIncomeP50;
+    private final double monthlyIncomeP90;
+
+    public DripBand(int year, double capitalP10, double capitalP50, double capitalP90,
+            double monthlyIncomeP10, double monthlyIncomeP50, double monthlyIncomeP90) {
+        this.year = year;
+        this.capitalP10 = capitalP10;
+        this.capitalP50 = capitalP50;
+        this.capitalP90 = capitalP90;
+        this.monthlyIncomeP10 = monthlyIncomeP10;
+        this.monthlyIncomeP50 = monthlyIncomeP50;
+        this.monthlyIncomeP90 = monthlyIncomeP90;
+    }
+
+    /** Same band for a different starting capital; every path is linear in it. */
+    public DripBand scaled(double factor) {
+        return new DripBand(year, capitalP10 * factor, capitalP50 * factor, capitalP90 * factor,
+                monthlyIncomeP10 * factor, monthlyIncomeP50 * factor, monthlyIncomeP90 * factor);
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public double getCapitalP10() {
+        return capitalP10;
+    }
+
+    public double getCapitalP50() {
+        return capitalP50;
+    }
+
+    public double getCapitalP90() {
+        return capitalP90;
+    }
+
+    public double getMonthlyIncomeP10() {
+        return monthlyIncomeP10;
+    }
+
+    public double getMonthlyIncomeP50() {
+        return monthlyIncomeP50;
+    }
+
+    public double getMonthlyIncomeP90() {
+        return monthlyIncomeP90;
+    }
+}
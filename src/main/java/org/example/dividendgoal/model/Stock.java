@@ -149,6 +149,57 @@ public class Stock {
         this.dividendHistory = dividendHistory;
     }
 
+    // --- Provenance of the derivable fields (set by the load-time derivation stage) ---
+
+    private Source dividendGrowthSource;
+    private Source sectorMedianYieldSource;
+    private Source consecutiveGrowthYearsSource;
+    private Source dividendCutHistorySource;
+
+    @JsonProperty("dividendGrowthSource")
+    public Source getDividendGrowthSource() {
+        return dividendGrowthSource;
+    }
+
+    public void setDividendGrowthSource(Source dividendGrowthSource) {
+        this.dividendGrowthSource = dividendGrowthSource;
+    }
+
+    @JsonProperty("sectorMedianYieldSource")
+    public Source getSectorMedianYieldSource() {
+        return sectorMedianYieldSource;
+    }
+
+    public void setSectorMedianYieldSource(Source sectorMedianYieldSource) {
+        this.sectorMedianYieldSource = sectorMedianYieldSource;
+    }
+
+    @JsonProperty("consecutiveGrowthYearsSource")
+    public Source getConsecutiveGrowthYearsSource() {
+        return consecutiveGrowthYearsSource;
+    }
+
+    public void setConsecutiveGrowthYearsSource(Source consecutiveGrowthYearsSource) {
+        this.consecutiveGrowthYearsSource = consecutiveGrowthYearsSource;
+    }
+
+    @JsonProperty("dividendCutHistorySource")
+    public Source getDividendCutHistorySource() {
+        return dividendCutHistorySource;
+    }
+
+    public void setDividendCutHistorySource(Source dividendCutHistorySource) {
+        this.dividendCutHistorySource = dividendCutHistorySource;
+    }
+
+    /**
+     * Where a value came from: entered in the dataset, computed from other
+     * records (dividend history, sector peers), or not known at all.
+     */
+    public enum Source {
+        REPORTED, DERIVED, MISSING
+    }
+
     public static class DividendRecord {
         private int year;
         private double dividendPerShare;
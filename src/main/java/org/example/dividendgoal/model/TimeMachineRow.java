@@ -0,0 +1,30 @@
+package org.example.dividendgoal.model;
+
+/**
+ * One "wait N years" card of the time machine: the capital that reaches the
+ * same monthly target if bought today and held while the dividend grows, and
+ * how much less that is than buying the full amount now.
+ */
+public class TimeMachineRow {
+    private final int year;
+    private final double capital;
+    private final double saved;
+
+    public TimeMachineRow(int year, double capital, double saved) {
+        this.year = year;
+        this.capital = capital;
+        this.saved = saved;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public double getCapital() {
+        return capital;
+    }
+
+    public double getSaved() {
+        return saved;
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.dividendgoal.prerender;
+
+import org.example.dividendgoal.DividendGoalApplication;
+import org.example.dividendgoal.seo.SeoPolicy;
+import org.example.dividendgoal.service.StockDataService;
+import org.example.dividendgoal.util.Compression;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * [Performance] [SEO] Renders the whole indexable surface
+ * ({@link SeoPolicy#getIndexablePaths}) to static files, raw and gzip, plus a
+ * {@link StaticSiteManifest} with SHA-256 content hashes. Run by the
+ * {@code staticSite} Gradle task; {@code StaticPageFilter} serves the result.
+ *
+ * The app is booted as-is on a loopback port and every page is fetched over
+ * HTTP in parallel, so the files are byte-for-byte what the controllers, advice
+ * and filters produce, with no second rendering path to keep in sync. The page
+ * cache, the dataset watcher and any previous static site are switched off for
+ * the run.
+ */
+public final class StaticSiteGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(StaticSiteGenerator.class);
+
+    // Response headers the controllers set that the static copy must carry too
+    private static final List<String> RECORDED_HEADERS = List.of(
+            "Content-Type", "Cache-Control", "Last-Modified", "X-Robots-Tag", "Content-Language");
+
+    private StaticSiteGenerator() {
+    }
+
+    /** Build entry point: {@code StaticSiteGenerator <outputDir>}. */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("usage: StaticSiteGenerator <outputDir>");
+        }
+        Path outputDir = Path.of(args[0]);
+
+        SpringApplication application = new SpringApplication(DividendGoalApplication.class);
+        try (ConfigurableApplicationContext context = application.run(
+                "--server.address=127.0.0.1",
+                "--server.port=0",
+                "--server.compression.enabled=false",
+                "--page-cache.enabled=false",
+                "--static-pages.dir=",
+                "--stocks.watch.enabled=false")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            StockDataService stockDataService = context.getBean(StockDataService.class);
+            List<String> paths = SeoPolicy.getIndexablePaths(stockDataService.getAvailableTickers());
+
+            long started = System.nanoTime();
+            StaticSiteManifest manifest = generate(URI.create("http://127.0.0.1:" + port),
+                    paths, stockDataService.getCatalog().getVersion(), outputDir);
+            logger.info("Pre-rendered {} pages into {} in {} ms", manifest.pages().size(), outputDir,
+                    (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    /**
+     * Fetches every path from {@code baseUri} and writes the files and manifest.
+     * Any non-200 page fails the whole run rather than shipping a partial site.
+     */
+    static StaticSiteManifest generate(URI baseUri, List<String> paths, String catalogVersion, Path outputDir)
+            throws IOException, InterruptedException {
+        Files.createDirectories(outputDir);
+        HttpClient client = HttpClient.newHttpClient();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<StaticSiteManifest.Page>> futures = new ArrayList<>(paths.size());
+            for (String path : paths) {
+                futures.add(pool.submit(() -> render(client, baseUri, path, outputDir)));
+            }
+            List<StaticSiteManifest.Page> pages = new ArrayList<>(paths.size());
+            for (Future<StaticSiteManifest.Page> future : futures) {
+                pages.add(future.get());
+            }
+            StaticSiteManifest manifest = new StaticSiteManifest(catalogVersion, YearMonth.now().toString(),
+                    Instant.now().toString(), pages);
+            manifest.write(outputDir);
+            return manifest;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IllegalStateException("Pre-rendering failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static StaticSiteManifest.Page render(HttpClient client, URI baseUri, String path, Path outputDir)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Accept-Encoding", "identity")
+                .GET()
+                .build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("Pre-rendering " + path + " returned HTTP " + response.statusCode());
+        }
+
+        byte[] raw = response.body();
+        byte[] gzip = Compression.gzip(raw);
+        String file = StaticSiteManifest.fileFor(path);
+        Path target = outputDir.resolve(file);
+        Files.createDirectories(target.getParent());
+        Files.write(target, raw);
+        Files.write(outputDir.resolve(file + ".gz"), gzip);
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : RECORDED_HEADERS) {
+            response.headers().firstValue(name).ifPresent(value -> headers.put(name, value));
+        }
+        return new StaticSiteManifest.Page(path, file, Compression.sha256Hex(raw), raw.length, gzip.length, headers);
+    }
+}
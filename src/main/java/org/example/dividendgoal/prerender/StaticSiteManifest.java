@@ -0,0 +1,57 @@
+package org.example.dividendgoal.prerender;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of a pre-rendered site directory ({@code manifest.json} at its root).
+ *
+ * The pages are only valid for the dataset and month they were rendered from:
+ * {@code catalogVersion} is {@link org.example.dividendgoal.catalog.StockCatalog#getVersion()}
+ * and {@code month} is the ISO year-month, the same period as the pages'
+ * Last-Modified and ETag.
+ */
+public record StaticSiteManifest(String catalogVersion, String month, String generatedAt, List<Page> pages) {
+
+    public static final String FILE_NAME = "manifest.json";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * One rendered URL. {@code file} is relative to the site directory; the
+     * gzip copy sits next to it with a {@code .gz} suffix.
+     */
+    public record Page(String path, String file, String sha256, long bytes, long gzipBytes,
+            Map<String, String> headers) {
+
+        public String gzipFile() {
+            return file + ".gz";
+        }
+    }
+
+    /** {@code /} maps to {@code index.html}, {@code /compare/O-vs-SCHD} to {@code compare/O-vs-SCHD/index.html}. */
+    public static String fileFor(String path) {
+        if (!path.startsWith("/") || path.contains("..") || path.contains("?")) {
+            throw new IllegalArgumentException("Not a plain page path: " + path);
+        }
+        return "/".equals(path) ? "index.html" : path.substring(1) + "/index.html";
+    }
+
+    public static StaticSiteManifest read(Path siteDir) throws IOException {
+        return MAPPER.readValue(siteDir.resolve(FILE_NAME).toFile(), StaticSiteManifest.class);
+    }
+
+    /** Written last and moved into place, so a reader never sees a manifest for half a site. */
+    public void write(Path siteDir) throws IOException {
+        Path temp = siteDir.resolve(FILE_NAME + ".tmp");
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), this);
+        Files.move(temp, siteDir.resolve(FILE_NAME), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.dividendgoal.scheduler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.example.dividendgoal.service.MissingTickerSketch;
+import org.example.dividendgoal.service.StockDataService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Periodically writes the missing-ticker top-K to a local JSON file so the
+ * demand signal survives restarts. Runs on the scheduler thread, never on a
+ * request thread; disabled while {@code missing-tickers.flush-path} is blank.
+ */
+@Component
+public class MissingTickerFlushScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(MissingTickerFlushScheduler.class);
+    private static final int FLUSH_TOP_K = 200;
+
+    private final StockDataService stockDataService;
+    private final ObjectMapper objectMapper;
+    private final Path flushPath;
+    private long lastFlushedHits = -1; // guarded by this
+
+    public MissingTickerFlushScheduler(StockDataService stockDataService, ObjectMapper objectMapper,
+            @Value("${missing-tickers.flush-path:}") String flushPath) {
+        this.stockDataService = stockDataService;
+        this.objectMapper = objectMapper;
+        this.flushPath = flushPath == null || flushPath.isBlank() ? null : Path.of(flushPath).toAbsolutePath();
+    }
+
+    @Scheduled(fixedDelayString = "${missing-tickers.flush-interval-ms:300000}",
+            initialDelayString = "${missing-tickers.flush-interval-ms:300000}")
+    // Synchronized: shutdown can flush while a scheduled run is still writing, and both touch
+    // lastFlushedHits and the file; serializing them keeps the newest counts on disk
+    public synchronized void flush() {
+        MissingTickerSketch sketch = stockDataService.getMissingTickers();
+        long totalHits = sketch.totalHits();
+        if (flushPath == null || totalHits == lastFlushedHits) {
+            return;
+        }
+
+        List<Map<String, Object>> top = sketch.top(FLUSH_TOP_K).stream().map(entry -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("ticker", entry.key());
+            row.put("count", entry.count());
+            row.put("error", entry.error());
+            return row;
+        }).toList();
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("flushedAt", Instant.now().toString());
+        document.put("totalHits", totalHits);
+        document.put("top", top);
+
+        Path temp = null;
+        try {
+            Files.createDirectories(flushPath.getParent());
+            // Write aside and rename, so readers never see a half-written file
+            temp = Files.createTempFile(flushPath.getParent(), ".missing-tickers", ".tmp");
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), document);
+            Files.move(temp, flushPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            lastFlushedHits = totalHits;
+        } catch (IOException e) {
+            logger.warn("Failed to flush missing tickers to {}", flushPath, e);
+            deleteQuietly(temp);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // Leftover temp file; harmless
+        }
+    }
+}
@@ -104,6 +104,29 @@ public final class SeoPolicy {
                 .toList();
     }
 
+    /**
+     * Every indexable path, in sitemap order. Used by the static pre-renderer so
+     * it renders exactly what the sitemaps advertise.
+     */
+    public static List<String> getIndexablePaths(Collection<String> availableTickers) {
+        List<String> paths = new ArrayList<>(CORE_STATIC_PATHS);
+        ARTICLE_SLUGS.forEach(slug -> paths.add("/articles/" + slug));
+        for (String ticker : getIndexableTickersForTargets(availableTickers)) {
+            for (Integer amount : INDEXABLE_TARGET_AMOUNTS) {
+                paths.add("/how-much-dividend/" + amount + "-per-month/" + ticker);
+            }
+        }
+        List<String> lifestyleTickers = getIndexableTickersForLifestyle(availableTickers);
+        for (String itemSlug : INDEXABLE_LIFESTYLE_ITEMS) {
+            for (String ticker : lifestyleTickers) {
+                paths.add("/lifestyle/cost-of-" + itemSlug + "-vs-" + ticker + "-dividend");
+            }
+        }
+        getIndexableComparisonPairs(availableTickers)
+                .forEach(pair -> paths.add("/compare/" + pair.left() + "-vs-" + pair.right()));
+        return paths;
+    }
+
     public static List<ComparisonSpotlight> getComparisonSpotlights(Collection<String> availableTickers) {
         Set<String> availableSet = uppercaseSet(availableTickers);
         return CURATED_COMPARISON_SPOTLIGHTS.stream()
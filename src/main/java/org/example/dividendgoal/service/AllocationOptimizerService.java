@@ -0,0 +1,146 @@
+package org.example.dividendgoal.service;
+
+import org.example.dividendgoal.catalog.StockCatalog;
+import org.example.dividendgoal.catalog.StockMetrics;
+import org.example.dividendgoal.model.Stock;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * [Performance] Least-capital mix of tickers for a monthly income target.
+ *
+ * Capital needed is target / blended yield, so minimizing capital means
+ * maximizing the weighted yield under the caps. Per-ticker and per-sector caps
+ * nest, and for nested caps filling the highest yields first, each up to
+ * whatever cap binds, is the exact LP optimum. The walk goes down the
+ * presorted yield ranking and stops as soon as 100% is placed, so it usually
+ * touches a few dozen ordinals whatever the catalog size.
+ *
+ * The optimal mix does not depend on the target; the target only scales the
+ * capital. Mixes are therefore cached per constraint set and scaled on the way
+ * out.
+ */
+@Service
+public class AllocationOptimizerService {
+
+    private static final double EPSILON = 1e-9;
+
+    private final StockDataService stockDataService;
+
+    public AllocationOptimizerService(StockDataService stockDataService) {
+        this.stockDataService = stockDataService;
+    }
+
+    @Cacheable(cacheNames = "allocationMix", key = "#constraints")
+    public Mix optimalMix(Constraints constraints) {
+        return optimalMix(stockDataService.getCatalog(), constraints);
+    }
+
+    Mix optimalMix(StockCatalog catalog, Constraints constraints) {
+        StockMetrics metrics = catalog.getMetrics();
+        byte riskCeiling = StockMetrics.riskCodeOf(constraints.maxRisk());
+        if (riskCeiling == StockMetrics.NONE) {
+            throw new IllegalArgumentException("Unknown risk level: " + constraints.maxRisk());
+        }
+        double tickerCap = constraints.maxWeight() / 100.0;
+        double sectorCap = constraints.maxSectorWeight() / 100.0;
+        double[] sectorUsed = new double[metrics.sectorCount() + 1];
+
+        List<Position> positions = new ArrayList<>();
+        double remaining = 1.0;
+        double blendedYield = 0;
+        for (int rank = 0; rank < metrics.size() && remaining > EPSILON; rank++) {
+            int ordinal = metrics.rankedByYield(rank);
+            double yield = metrics.yield(ordinal);
+            if (yield <= 0) {
+                // Ranking is descending: nothing after this pays anything
+                break;
+            }
+            if (!eligible(metrics, ordinal, riskCeiling, constraints)) {
+                continue;
+            }
+            byte sectorCode = metrics.sectorCode(ordinal);
+            int sector = sectorCode == StockMetrics.NONE ? metrics.sectorCount() : Byte.toUnsignedInt(sectorCode);
+            double weight = Math.min(Math.min(tickerCap, remaining), sectorCap - sectorUsed[sector]);
+            if (weight <= EPSILON) {
+                continue;
+            }
+            sectorUsed[sector] += weight;
+            remaining -= weight;
+            blendedYield += weight * yield;
+
+            Stock stock = catalog.getStocks().get(ordinal);
+            positions.add(new Position(stock.getTicker(), stock.getName(), stock.getSector(), stock.getRisk(),
+                    weight * 100, yield));
+        }
+        boolean feasible = remaining <= EPSILON;
+        return new Mix(constraints, feasible, feasible ? blendedYield : 0, feasible ? List.copyOf(positions) : List.of());
+    }
+
+    private static boolean eligible(StockMetrics metrics, int ordinal, byte riskCeiling, Constraints constraints) {
+        byte risk = metrics.riskCode(ordinal);
+        // Unrated stocks only pass when HIGH risk is allowed anyway
+        if (riskCeiling != StockMetrics.RISK_HIGH && (risk == StockMetrics.NONE || risk > riskCeiling)) {
+            return false;
+        }
+        return !(constraints.excludeDividendCuts() && metrics.dividendCutHistory(ordinal));
+    }
+
+    /**
+     * Normalized so equivalent requests share a cache entry: risk upper-cased,
+     * caps rounded to 0.1% and clamped to (0, 100].
+     */
+    public record Constraints(String maxRisk, double maxWeight, double maxSectorWeight,
+            boolean excludeDividendCuts) {
+
+        public Constraints {
+            maxRisk = maxRisk == null ? "HIGH" : maxRisk.trim().toUpperCase(Locale.ROOT);
+            maxWeight = clampPercent(maxWeight);
+            maxSectorWeight = clampPercent(maxSectorWeight);
+        }
+
+        private static double clampPercent(double value) {
+            double rounded = Math.round(value * 10) / 10.0;
+            if (!(rounded > 0)) {
+                throw new IllegalArgumentException("Caps must be positive percentages");
+            }
+            return Math.min(rounded, 100);
+        }
+    }
+
+    public record Position(String ticker, String name, String sector, String risk, double weight, double yield) {
+    }
+
+    /**
+     * Weights in percent; {@code blendedYield} is the weighted yield in percent.
+     * Not feasible when the eligible tickers cannot absorb 100% under the caps.
+     */
+    public record Mix(Constraints constraints, boolean feasible, double blendedYield, List<Position> positions) {
+
+        /** Capital per position for a net (after-tax) monthly income target. */
+        public Allocation allocate(double netMonthlyTarget) {
+            if (!feasible || blendedYield <= 0) {
+                return new Allocation(false, netMonthlyTarget, 0, 0, List.of());
+            }
+            double grossMonthly = netMonthlyTarget / (1 - DividendCalculationService.DIVIDEND_TAX_RATE);
+            double capital = grossMonthly * 12 / (blendedYield / 100.0);
+            List<Allocation.Line> lines = new ArrayList<>(positions.size());
+            for (Position position : positions) {
+                double amount = capital * position.weight() / 100;
+                lines.add(new Allocation.Line(position, amount, amount * position.yield() / 100 / 12));
+            }
+            return new Allocation(true, netMonthlyTarget, capital, blendedYield, lines);
+        }
+    }
+
+    public record Allocation(boolean feasible, double netMonthlyTarget, double totalCapital, double blendedYield,
+            List<Line> lines) {
+
+        public record Line(Position position, double capital, double grossMonthlyIncome) {
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.dividendgoal.service;
+
+import org.example.dividendgoal.catalog.DividendHistoryIndex;
+import org.example.dividendgoal.catalog.StockCatalog;
+import org.example.dividendgoal.catalog.StockMetrics;
+import org.example.dividendgoal.model.Stock;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * [Performance] "If I had bought $X in year Y" backtests over the recorded
+ * dividend history.
+ *
+ * Dividend growth between any two years is one division in the catalog's
+ * {@link DividendHistoryIndex}, and reinvestment compounds in closed form, so
+ * each holding costs O(1) whatever the span.
+ *
+ * The dataset has no historical prices, so the backtest assumes the yield
+ * stayed at today's level: the price tracked the dividend, and after-tax
+ * dividends bought shares at that yield every year.
+ */
+@Service
+public class BacktestService {
+
+    public static final int MAX_HOLDINGS = PortfolioService.MAX_HOLDINGS;
+
+    private final StockDataService stockDataService;
+
+    public BacktestService(StockDataService stockDataService) {
+        this.stockDataService = stockDataService;
+    }
+
+    /**
+     * {@code endYear} defaults to each holding's last recorded year. Holdings
+     * without history covering the span are reported in {@code skipped}.
+     *
+     * @throws IllegalArgumentException for an empty or oversized portfolio,
+     *                                  negative amounts or an end year before the start year
+     */
+    public Result backtest(List<HoldingInput> inputs, int startYear, Integer endYear, boolean reinvest) {
+        return backtest(stockDataService.getCatalog(), inputs, startYear, endYear, reinvest);
+    }
+
+    Result backtest(StockCatalog catalog, List<HoldingInput> inputs, int startYear, Integer endYear,
+            boolean reinvest) {
+        if (inputs == null || inputs.isEmpty() || inputs.size() > MAX_HOLDINGS) {
+            throw new IllegalArgumentException("A backtest needs 1-" + MAX_HOLDINGS + " holdings");
+        }
+        if (endYear != null && endYear < startYear) {
+            throw new IllegalArgumentException("endYear must not be before startYear");
+        }
+        StockMetrics metrics = catalog.getMetrics();
+        DividendHistoryIndex history = catalog.getDividendHistory();
+        double keep = 1 - DividendCalculationService.DIVIDEND_TAX_RATE;
+
+        List<Holding> holdings = new ArrayList<>(inputs.size());
+        Set<String> skipped = new LinkedHashSet<>();
+        double invested = 0;
+        double finalValue = 0;
+        double startIncome = 0;
+        double endIncome = 0;
+        for (HoldingInput input : inputs) {
+            if (input.amount() < 0) {
+                throw new IllegalArgumentException("amount must not be negative");
+            }
+            int ordinal = input.ticker() == null ? -1 : catalog.ordinalOf(input.ticker());
+            if (ordinal < 0) {
+                skipped.add(String.valueOf(input.ticker()));
+                continue;
+            }
+            int end = endYear != null ? endYear : history.lastYear(ordinal);
+            double growth = history.growth(ordinal, startYear, end);
+            if (Double.isNaN(growth)) {
+                skipped.add(catalog.getStocks().get(ordinal).getTicker());
+                continue;
+            }
+            double yield = metrics.yield(ordinal) / 100.0;
+            double reinvestment = reinvest ? Math.pow(1 + yield * keep, end - startYear) : 1;
+            double value = input.amount() * growth * reinvestment;
+
+            Stock stock = catalog.getStocks().get(ordinal);
+            Holding holding = new Holding(stock.getTicker(), stock.getName(), startYear, end, input.amount(),
+                    (growth - 1) * 100, input.amount() * yield / 12, value * yield / 12, value);
+            holdings.add(holding);
+            invested += holding.amount();
+            finalValue += holding.finalValue();
+            startIncome += holding.startMonthlyIncome();
+            endIncome += holding.endMonthlyIncome();
+        }
+        return new Result(holdings, List.copyOf(skipped), reinvest, invested, finalValue, startIncome, endIncome,
+                endIncome * keep);
+    }
+
+    public record HoldingInput(String ticker, double amount) {
+    }
+
+    /** Monthly incomes are before tax; {@code dividendGrowth} is the total change in percent. */
+    public record Holding(String ticker, String name, int startYear, int endYear, double amount,
+            double dividendGrowth, double startMonthlyIncome, double endMonthlyIncome, double finalValue) {
+    }
+
+    public record Result(List<Holding> holdings, List<String> skipped, boolean reinvest, double invested,
+            double finalValue, double startMonthlyIncome, double endMonthlyIncome, double endMonthlyIncomeAfterTax) {
+    }
+}
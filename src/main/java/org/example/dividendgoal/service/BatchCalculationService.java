@@ -0,0 +1,277 @@
+package org.example.dividendgoal.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dividendgoal.catalog.StockCatalog;
+import org.example.dividendgoal.catalog.StockMetrics;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * [Performance] Evaluates many calculator scenarios in one pass.
+ *
+ * Scenarios are parsed token by token straight into primitive columns, every
+ * ticker is resolved against a single catalog snapshot, the math runs as a
+ * flat loop over the columns (parallel for large batches), and results are
+ * streamed out with a {@link JsonGenerator}: no per-scenario maps or beans.
+ *
+ * Scenario fields: {@code ticker}, {@code amount} (target monthly income),
+ * {@code contribution} (monthly), {@code horizon} (years, for the time
+ * machine) and optional {@code capital} (for the income it would pay today).
+ * A scenario with a value of the wrong type comes back with an {@code error}
+ * instead of results; only a body that is not an array of objects fails the
+ * whole request.
+ */
+@Service
+public class BatchCalculationService {
+
+    public static final int MAX_SCENARIOS = 10_000;
+    // Same 100-year ceiling as the freedom date
+    public static final int MAX_HORIZON_YEARS = DividendCalculationService.MAX_FREEDOM_MONTHS / 12;
+    private static final int PARALLEL_THRESHOLD = 2_048;
+
+    private final DividendCalculationService calculationService;
+    private final StockDataService stockDataService;
+    private final JsonFactory jsonFactory;
+
+    public BatchCalculationService(DividendCalculationService calculationService,
+            StockDataService stockDataService, ObjectMapper objectMapper) {
+        this.calculationService = calculationService;
+        this.stockDataService = stockDataService;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Parses a JSON array of scenarios.
+     *
+     * @throws IllegalArgumentException when the body is not an array of scenario objects
+     *                                  or holds more than {@link #MAX_SCENARIOS}
+     */
+    public Batch read(InputStream in) throws IOException {
+        StockCatalog catalog = stockDataService.getCatalog();
+        Batch batch = new Batch(catalog);
+        Map<String, Integer> resolved = new HashMap<>();
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of scenarios");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new IllegalArgumentException("Expected a scenario object but found " + token);
+                }
+                if (batch.size == MAX_SCENARIOS) {
+                    throw new IllegalArgumentException("At most " + MAX_SCENARIOS + " scenarios per request");
+                }
+                int i = batch.append();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    JsonToken value = parser.nextToken();
+                    switch (field) {
+                        case "ticker" -> {
+                            if (!value.isScalarValue()) {
+                                parser.skipChildren();
+                                batch.reject(i, "ticker must be a string");
+                                continue;
+                            }
+                            String ticker = parser.getValueAsString();
+                            batch.tickers[i] = ticker;
+                            // Repeated tickers (the common case for partners) hit the local map
+                            batch.ordinals[i] = ticker == null ? -1
+                                    : resolved.computeIfAbsent(ticker, catalog::ordinalOf);
+                        }
+                        case "amount" -> batch.amount[i] = readNumber(parser, batch, i, field, 0);
+                        case "contribution" -> batch.contribution[i] = readNumber(parser, batch, i, field, 0);
+                        case "horizon" -> batch.horizon[i] = readYears(parser, batch, i);
+                        case "capital" -> batch.capital[i] = readNumber(parser, batch, i, field, Double.NaN);
+                        default -> parser.skipChildren();
+                    }
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+        return batch;
+    }
+
+    /**
+     * The current value as a number. An object or array is skipped whole, so the
+     * parser stays aligned with the next field, and the scenario is marked
+     * invalid; so is any other non-numeric value. {@code null} means absent.
+     */
+    private static double readNumber(JsonParser parser, Batch batch, int i, String field, double absent)
+            throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+                double value = parser.getDoubleValue();
+                if (Double.isFinite(value)) {
+                    return value;
+                }
+            }
+            case VALUE_STRING -> {
+                // Lenient about quoted numbers, as the field-by-field coercion was before
+                try {
+                    double value = Double.parseDouble(parser.getText().trim());
+                    if (Double.isFinite(value)) {
+                        return value;
+                    }
+                } catch (NumberFormatException e) {
+                    // reported below
+                }
+            }
+            case VALUE_NULL -> {
+                return absent;
+            }
+            case START_OBJECT, START_ARRAY -> parser.skipChildren();
+            default -> {
+            }
+        }
+        batch.reject(i, field + " must be a number");
+        return absent;
+    }
+
+    private static int readYears(JsonParser parser, Batch batch, int i) throws IOException {
+        double years = readNumber(parser, batch, i, "horizon", 0);
+        if (years < 0 || years > MAX_HORIZON_YEARS || years != Math.rint(years)) {
+            batch.reject(i, "horizon must be a whole number of years from 0 to " + MAX_HORIZON_YEARS);
+            return 0;
+        }
+        return (int) years;
+    }
+
+    public void evaluate(Batch batch) {
+        batch.allocateResults();
+        if (batch.size >= PARALLEL_THRESHOLD) {
+            IntStream.range(0, batch.size).parallel().forEach(i -> evaluate(batch, i));
+        } else {
+            for (int i = 0; i < batch.size; i++) {
+                evaluate(batch, i);
+            }
+        }
+    }
+
+    private void evaluate(Batch batch, int i) {
+        int ordinal = batch.ordinals[i];
+        if (ordinal < 0 || batch.errors[i] != null) {
+            return;
+        }
+        StockMetrics metrics = batch.catalog.getMetrics();
+        double yield = metrics.yield(ordinal);
+        double amount = batch.amount[i];
+        batch.yield[i] = yield;
+        batch.requiredInvestment[i] = calculationService.calculateRequiredInvestment(amount, yield);
+        batch.monthsToFreedom[i] = calculationService.monthsToFreedom(amount, yield, batch.contribution[i]);
+        if (batch.horizon[i] > 0) {
+            batch.hypotheticalCapital[i] = calculationService.calculateHypotheticalCapital(amount, yield,
+                    metrics.dividendGrowth(ordinal), batch.horizon[i]);
+        }
+        if (!Double.isNaN(batch.capital[i])) {
+            batch.monthlyIncome[i] = calculationService.calculateMonthlyIncome(batch.capital[i], yield);
+        }
+    }
+
+    public void write(Batch batch, OutputStream out) throws IOException {
+        YearMonth now = YearMonth.now();
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField("count", batch.size);
+            generator.writeArrayFieldStart("results");
+            for (int i = 0; i < batch.size; i++) {
+                generator.writeStartObject();
+                generator.writeStringField("ticker", batch.tickers[i]);
+                if (batch.errors[i] != null) {
+                    generator.writeStringField("error", batch.errors[i]);
+                } else if (batch.ordinals[i] < 0) {
+                    generator.writeStringField("error", "Unknown ticker");
+                } else {
+                    generator.writeNumberField("yield", batch.yield[i]);
+                    generator.writeNumberField("requiredInvestment", round2(batch.requiredInvestment[i]));
+                    if (batch.horizon[i] > 0) {
+                        generator.writeNumberField("hypotheticalCapital", round2(batch.hypotheticalCapital[i]));
+                    }
+                    if (!Double.isNaN(batch.capital[i])) {
+                        generator.writeNumberField("monthlyIncome", round2(batch.monthlyIncome[i]));
+                    }
+                    generator.writeNumberField("monthsToFreedom", batch.monthsToFreedom[i]);
+                    generator.writeStringField("freedomDate", now.plusMonths(batch.monthsToFreedom[i]).toString());
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static double round2(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /** Scenario inputs and results as parallel primitive columns. */
+    public static final class Batch {
+        private final StockCatalog catalog;
+        private int size;
+        private String[] tickers = new String[16];
+        private int[] ordinals = new int[16];
+        private double[] amount = new double[16];
+        private double[] contribution = new double[16];
+        private int[] horizon = new int[16];
+        private double[] capital = new double[16];
+        private String[] errors = new String[16];
+        private double[] yield;
+        private double[] requiredInvestment;
+        private double[] hypotheticalCapital;
+        private double[] monthlyIncome;
+        private int[] monthsToFreedom;
+
+        Batch(StockCatalog catalog) {
+            this.catalog = catalog;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        private void allocateResults() {
+            yield = new double[size];
+            requiredInvestment = new double[size];
+            hypotheticalCapital = new double[size];
+            monthlyIncome = new double[size];
+            monthsToFreedom = new int[size];
+        }
+
+        private int append() {
+            if (size == ordinals.length) {
+                int grown = size * 2;
+                tickers = Arrays.copyOf(tickers, grown);
+                ordinals = Arrays.copyOf(ordinals, grown);
+                amount = Arrays.copyOf(amount, grown);
+                contribution = Arrays.copyOf(contribution, grown);
+                horizon = Arrays.copyOf(horizon, grown);
+                capital = Arrays.copyOf(capital, grown);
+                errors = Arrays.copyOf(errors, grown);
+            }
+            ordinals[size] = -1;
+            capital[size] = Double.NaN;
+            return size++;
+        }
+
+        // First problem wins; the scenario is reported but never evaluated
+        private void reject(int i, String error) {
+            if (errors[i] == null) {
+                errors[i] = error;
+            }
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package org.example.dividendgoal.service;
 
+import org.example.dividendgoal.catalog.ScreenerQuery;
 import org.example.dividendgoal.model.Stock;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 public class BestStockService {
@@ -21,14 +21,12 @@ public class BestStockService {
      * Criteria: Risk == LOW or MEDIUM, sort by Dividend Growth (5yr).
      */
     public List<Stock> getTopSafetyStocks(int limit) {
-        return stockDataService.getAvailableTickers().stream()
-                .map(stockDataService::findByTicker)
-                .filter(opt -> opt.isPresent())
-                .map(opt -> opt.get())
-                .filter(s -> "LOW".equals(s.getRisk()) || "MEDIUM".equals(s.getRisk()))
-                .sorted(Comparator.comparingDouble(Stock::getDividendGrowth).reversed()) // Growth is safety proxy
-                .limit(limit)
-                .collect(Collectors.toList());
+        // [Performance] Risk bitmaps + presorted growth ranking (growth is safety proxy)
+        ScreenerQuery query = new ScreenerQuery();
+        query.setRisk(Set.of("LOW", "MEDIUM"));
+        query.setSort("growth");
+        query.setSize(limit);
+        return stockDataService.getCatalog().getScreener().screen(query).stocks();
     }
 
     /**
@@ -37,13 +35,10 @@ public class BestStockService {
      * Income focus).
      */
     public List<Stock> getTopIncomeStocks(int limit) {
-        return stockDataService.getAvailableTickers().stream()
-                .map(stockDataService::findByTicker)
-                .filter(opt -> opt.isPresent())
-                .map(opt -> opt.get())
-                .sorted(Comparator.comparingDouble(Stock::getYield).reversed())
-                .limit(limit)
-                .collect(Collectors.toList());
+        ScreenerQuery query = new ScreenerQuery();
+        query.setSort("yield");
+        query.setSize(limit);
+        return stockDataService.getCatalog().getScreener().screen(query).stocks();
     }
 
     /**
@@ -0,0 +1,105 @@
+package org.example.dividendgoal.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dividendgoal.util.Compression;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.stream.IntStream;
+
+/**
+ * [Performance] Required-capital grid over yield × monthly target, for the
+ * sensitivity heatmap.
+ *
+ * Pure math from {@link DividendCalculationService}, so it is computed once
+ * at startup (rows in parallel) into one primitive array, serialized once, and
+ * served as the same bytes with a content-hash ETag. Clients interpolate
+ * between grid points instead of requesting a page per amount.
+ */
+@Service
+public class CapitalGridService {
+
+    public static final double YIELD_MIN = 1.0;
+    public static final double YIELD_STEP = 0.25;
+    public static final int YIELD_COUNT = 57; // 1% .. 15%
+    public static final double TARGET_MIN = 100;
+    public static final double TARGET_STEP = 100;
+    public static final int TARGET_COUNT = 100; // $100 .. $10,000 per month
+
+    // [basis][yield][target], basis 0 = gross, 1 = net of dividend tax
+    private final double[] grid = new double[2 * YIELD_COUNT * TARGET_COUNT];
+    private final byte[] json;
+    private final String etag;
+    private final String version;
+
+    public CapitalGridService(DividendCalculationService calculationService, ObjectMapper objectMapper) {
+        IntStream.range(0, YIELD_COUNT).parallel().forEach(row -> {
+            double yield = YIELD_MIN + row * YIELD_STEP;
+            for (int column = 0; column < TARGET_COUNT; column++) {
+                double target = TARGET_MIN + column * TARGET_STEP;
+                grid[index(0, row, column)] = calculationService.calculateRequiredInvestment(target, yield);
+                grid[index(1, row, column)] = calculationService.calculateRequiredInvestmentForNetIncome(target,
+                        yield);
+            }
+        });
+        json = serialize(objectMapper);
+        version = Compression.sha256Hex(json).substring(0, 16);
+        etag = "\"" + version + "\"";
+    }
+
+    /** Required capital, gross or net basis, at grid point ({@code row}, {@code column}). */
+    public double requiredCapital(boolean net, int row, int column) {
+        return grid[index(net ? 1 : 0, row, column)];
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    /** Strong ETag, quoted. */
+    public String getEtag() {
+        return etag;
+    }
+
+    /** Content hash for fingerprinted URLs ({@code ?v=}). */
+    public String getVersion() {
+        return version;
+    }
+
+    private static int index(int basis, int row, int column) {
+        return (basis * YIELD_COUNT + row) * TARGET_COUNT + column;
+    }
+
+    // Whole dollars keep the payload compact; rows are yields, columns targets
+    private byte[] serialize(ObjectMapper objectMapper) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField("yieldMin", YIELD_MIN);
+            generator.writeNumberField("yieldStep", YIELD_STEP);
+            generator.writeNumberField("yieldCount", YIELD_COUNT);
+            generator.writeNumberField("targetMin", TARGET_MIN);
+            generator.writeNumberField("targetStep", TARGET_STEP);
+            generator.writeNumberField("targetCount", TARGET_COUNT);
+            generator.writeNumberField("taxRate", DividendCalculationService.DIVIDEND_TAX_RATE);
+            for (int basis = 0; basis < 2; basis++) {
+                generator.writeArrayFieldStart(basis == 0 ? "gross" : "net");
+                for (int row = 0; row < YIELD_COUNT; row++) {
+                    generator.writeStartArray();
+                    for (int column = 0; column < TARGET_COUNT; column++) {
+                        generator.writeNumber(Math.round(grid[index(basis, row, column)]));
+                    }
+                    generator.writeEndArray();
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -4,7 +4,6 @@ import org.example.dividendgoal.model.GeneratedContent;
 import org.example.dividendgoal.model.Stock;
 import org.springframework.stereotype.Service;
 
-import java.util.Random;
 
 @Service
 public class ContentGenerationService {
@@ -71,6 +70,9 @@ public class ContentGenerationService {
 
         StringBuilder sb = new StringBuilder();
         sb.append(String.format("%s operates in the <strong>%s</strong> sector. ", stock.getName(), stock.getSector()));
+        if (stock.getSectorMedianYieldSource() == Stock.Source.DERIVED) {
+            sb.append("The sector median below is computed from the yields of the sector's stocks we track. ");
+        }
 
         double diff = myYield - sectorMedian;
         double percentDiff = (diff / sectorMedian) * 100;
@@ -133,7 +135,12 @@ public class ContentGenerationService {
 
         // Dividend Streak Analysis
         int years = stock.getConsecutiveGrowthYears();
-        if (years > 0) {
+        if (years > 0 && stock.getConsecutiveGrowthYearsSource() == Stock.Source.DERIVED) {
+            // Histories on file are short, so a derived streak is only a lower bound
+            sb.append(String.format(
+                    "<br><strong>Growth Streak:</strong> %s raised its dividend in each of the last %d years on record.",
+                    stock.getTicker(), years));
+        } else if (years > 0) {
             sb.append(String.format(
                     "<br><strong>Growth Streak:</strong> %s has raised its dividend for %d consecutive years, ",
                     stock.getTicker(), years));
@@ -1,10 +1,21 @@
 package org.example.dividendgoal.service;
 
+import org.example.dividendgoal.catalog.StockMetrics;
+import org.example.dividendgoal.model.TimeMachineRow;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class DividendCalculationService {
 
+    // Freedom date 최대 100년 제한 (도달 불가능한 목표)
+    public static final int MAX_FREEDOM_MONTHS = 12 * 100;
+
+    // 배당소득세 15.4%
+    public static final double DIVIDEND_TAX_RATE = 0.154;
+
     // 1. Gross Target (세전 목표)
     public double calculateRequiredInvestment(double monthlyAmount, double dividendYieldPercentage) {
         if (dividendYieldPercentage <= 0) {
@@ -21,8 +32,7 @@ public class DividendCalculationService {
             return 0;
 
         // Step 1: 세전 목표액 역산 (Gross-up)
-        double taxRate = 0.154; // 배당소득세 15.4%
-        double grossMonthlyAmount = netMonthlyAmount / (1.0 - taxRate);
+        double grossMonthlyAmount = netMonthlyAmount / (1.0 - DIVIDEND_TAX_RATE);
 
         return calculateRequiredInvestment(grossMonthlyAmount, dividendYieldPercentage);
     }
@@ -52,6 +62,22 @@ public class DividendCalculationService {
         return annualTarget / (futureYield / 100.0);
     }
 
+    /**
+     * [Performance] 타임머신 카드 목록 (calculateHypotheticalCapital과 같은 계산).
+     * 성장 계수 (1+g)^n 은 카탈로그 로드 시 미리 계산되어 있어 카드당 곱셈/나눗셈 몇 번이면 끝.
+     * years는 1..{@link StockMetrics#MAX_GROWTH_YEARS} 중 자유롭게 선택 가능.
+     */
+    public List<TimeMachineRow> buildTimeMachine(StockMetrics metrics, int ordinal, double monthlyTarget,
+            double requiredInvestment, int... years) {
+        double capitalToday = calculateRequiredInvestment(monthlyTarget, metrics.yield(ordinal));
+        List<TimeMachineRow> rows = new ArrayList<>(years.length);
+        for (int year : years) {
+            double futureCap = capitalToday / metrics.growthFactor(ordinal, year);
+            rows.add(new TimeMachineRow(year, futureCap, requiredInvestment - futureCap));
+        }
+        return List.copyOf(rows);
+    }
+
     /**
      * [Phase 4] Freedom Date Calculator (은퇴 시기 계산)
      * 목표 월 배당금(targetMonthlyIncome)에 도달하기까지 걸리는 시간을 계산.
@@ -62,41 +88,59 @@ public class DividendCalculationService {
      */
     public java.time.LocalDate calculateFreedomDate(double targetMonthlyIncome, double currentYield,
             double monthlyContribution) {
+        return java.time.LocalDate.now()
+                .plusMonths(monthsToFreedom(targetMonthlyIncome, currentYield, monthlyContribution));
+    }
+
+    /**
+     * [Performance] Months until the reinvested income reaches the target, capped
+     * at {@link #MAX_FREEDOM_MONTHS}. Constant time: each month the capital grows
+     * as C(k) = (C(k-1) + m)(1 + r), so the monthly income after k months is
+     * m(1 + r)((1 + r)^k - 1) and k is solved with logarithms instead of looping
+     * up to 100 years.
+     */
+    public int monthsToFreedom(double targetMonthlyIncome, double currentYield, double monthlyContribution) {
         if (targetMonthlyIncome <= 0 || currentYield <= 0) {
-            return java.time.LocalDate.now();
+            return 0;
+        }
+        double r = currentYield / 100.0 / 12.0;
+        double m = monthlyContribution;
+        // Nothing invested (or money withdrawn) never reaches a positive target
+        if (!(m > 0) || !Double.isFinite(r)) {
+            return MAX_FREEDOM_MONTHS;
         }
 
-        double annualYieldRate = currentYield / 100.0;
-        double monthlyYieldRate = annualYieldRate / 12.0;
-
-        double currentMonthlyIncome = 0.0;
-        double investedCapital = 0.0;
-        java.time.LocalDate date = java.time.LocalDate.now();
-
-        // 최대 100년 루프 제한 (무한 루프 방지)
-        int maxMonths = 12 * 100;
-        int months = 0;
-
-        while (currentMonthlyIncome < targetMonthlyIncome) {
-            // 1. 월 적립
-            investedCapital += monthlyContribution;
-
-            // 2. 배당금 발생 (이달의 자본 기준)
-            double dividendThisMonth = investedCapital * monthlyYieldRate;
-
-            // 3. 배당 재투자
-            investedCapital += dividendThisMonth;
-
-            // 4. 새로운 월 배당금 계산
-            currentMonthlyIncome = investedCapital * monthlyYieldRate;
-
-            date = date.plusMonths(1);
+        double k = Math.ceil(Math.log1p(targetMonthlyIncome / (m * (1 + r))) / Math.log1p(r));
+        if (!Double.isFinite(k)) {
+            return bisectFreedomMonths(targetMonthlyIncome, r, m);
+        }
+        int months = (int) Math.max(1, Math.min(k, MAX_FREEDOM_MONTHS));
+        // Rounding in log/ceil can land one month off right at the boundary; nudge onto it
+        while (months > 1 && incomeAfter(months - 1, r, m) >= targetMonthlyIncome) {
+            months--;
+        }
+        while (months < MAX_FREEDOM_MONTHS && incomeAfter(months, r, m) < targetMonthlyIncome) {
             months++;
-
-            if (months >= maxMonths)
-                break;
         }
+        return months;
+    }
 
-        return date;
+    private static double incomeAfter(int months, double r, double m) {
+        return m * (1 + r) * Math.expm1(months * Math.log1p(r));
+    }
+
+    // Fallback for inputs the logarithm can't represent; income is monotonic in months
+    private static int bisectFreedomMonths(double target, double r, double m) {
+        int low = 1;
+        int high = MAX_FREEDOM_MONTHS;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (incomeAfter(mid, r, m) >= target) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,301 @@
+package org.example.dividendgoal.service;
+
+import jakarta.annotation.PreDestroy;
+import org.example.dividendgoal.model.DripBand;
+import org.example.dividendgoal.model.Stock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [Performance] [YMYL] Stochastic DRIP projection.
+ *
+ * Each path is {@link DripProjectionEngine}'s schedule (no contributions) with
+ * the growth rate redrawn every year from the stock's own history: one of its
+ * historical year-over-year dividend changes, spread over the months like the
+ * engine's fixed rate. Dividends are paid on the stock's schedule, taxed at
+ * {@link DividendCalculationService#DIVIDEND_TAX_RATE} and reinvested, with the
+ * share price held flat. A cut lowers the yield the reinvested dividends earn
+ * from then on (a cut to zero ends the compounding), so the spread of the bands
+ * reflects how erratic the payout has been. A stock with too little history
+ * falls back to its average growth and the bands collapse onto the
+ * deterministic projection exactly.
+ *
+ * Paths run in fixed leaves of at most {@value #LEAF_PATHS} on a dedicated,
+ * bounded fork/join pool, each leaf with its own split of one seeded
+ * {@link SplittableRandom}. A leaf sorts its own paths per year and keeps only
+ * evenly spaced order statistics, so the percentiles are taken over a
+ * {@value #RESERVOIR}-value reservoir per year whatever the path count, and a
+ * simulation never holds more than that plus one leaf buffer per worker. At
+ * most {@code drip.monte-carlo.max-concurrent} simulations run at once; extra
+ * callers are turned away rather than queued behind them.
+ *
+ * Everything is computed for a starting capital of 1 over {@link #MAX_YEARS}
+ * and scaled and truncated by the caller, since every path is linear in the
+ * starting capital and a shorter horizon is a prefix of a longer one.
+ */
+@Service
+public class DripMonteCarloService {
+
+    public static final int MAX_YEARS = 30;
+
+    static final int MIN_PATHS = 10_000;
+    static final int MAX_PATHS = 100_000;
+
+    static final int LEAF_PATHS = 1_024;
+    static final int RESERVOIR = 4_096;
+    private static final int MIN_GROWTH_SAMPLES = 3;
+    private static final long PERMIT_WAIT_MS = 2_000;
+
+    private final int paths;
+    private final ForkJoinPool pool;
+    private final Semaphore permits;
+
+    public DripMonteCarloService(@Value("${drip.monte-carlo.paths:20000}") int paths,
+            @Value("${drip.monte-carlo.threads:0}") int threads,
+            @Value("${drip.monte-carlo.max-concurrent:2}") int maxConcurrent) {
+        this.paths = Math.max(MIN_PATHS, Math.min(paths, MAX_PATHS));
+        // Half the cores by default, so a burst of simulations cannot starve the request threads
+        int parallelism = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("drip-monte-carlo-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    public int getPaths() {
+        return paths;
+    }
+
+    /**
+     * Percentile bands for years 1..{@link #MAX_YEARS} per unit of starting
+     * capital. Cached per ticker, so the cache holds at most one entry per stock,
+     * and concurrent misses for the same ticker wait for a single computation.
+     * The caches are cleared on every dataset reload.
+     *
+     * @throws RejectedExecutionException if the simulation slots stay busy
+     */
+    @Cacheable(cacheNames = "dripMonteCarlo", key = "#stock.ticker", sync = true)
+    public List<DripBand> simulateUnit(Stock stock) {
+        long seed = stock.getTicker().hashCode() * 0x9E3779B97F4A7C15L;
+        try {
+            if (!permits.tryAcquire(PERMIT_WAIT_MS, TimeUnit.MILLISECONDS)) {
+                throw new RejectedExecutionException("All Monte Carlo simulation slots are busy");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted waiting for a simulation slot", e);
+        }
+        try {
+            return simulate(stock.getYield(), growthSamples(stock),
+                    DripProjectionEngine.paymentsPerYear(stock.getFrequency()),
+                    DividendCalculationService.DIVIDEND_TAX_RATE, MAX_YEARS, paths, seed, pool);
+        } finally {
+            permits.release();
+        }
+    }
+
+    static List<DripBand> simulate(double yieldPercentage, double[] growthSamples, int paymentsPerYear,
+            double taxRate, int years, int paths, long seed, ForkJoinPool pool) {
+        if (12 % paymentsPerYear != 0) {
+            throw new IllegalArgumentException("Unsupported payments per year: " + paymentsPerYear);
+        }
+        // Annual change spread evenly over the months, as the engine does; precomputed so paths never call pow
+        double[] monthlyGrowth = new double[growthSamples.length];
+        for (int k = 0; k < growthSamples.length; k++) {
+            monthlyGrowth[k] = Math.pow(1 + growthSamples[k], 1.0 / 12);
+        }
+
+        // Leaves are fixed up front (not by recursive halving) so each keeps the same share of the reservoir
+        int leaves = (paths + LEAF_PATHS - 1) / LEAF_PATHS;
+        int perLeaf = Math.max(1, Math.min(RESERVOIR / leaves, paths / leaves));
+        int width = leaves * perLeaf;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[leaves];
+        for (int leaf = 0; leaf < leaves; leaf++) {
+            randoms[leaf] = root.split();
+        }
+
+        // Row per year: capital[year * width + leaf * perLeaf + k]
+        float[] capital = new float[years * width];
+        float[] income = new float[years * width];
+        pool.invoke(new PathTask(randoms, 0, leaves, paths, perLeaf, Math.max(yieldPercentage, 0) / 100.0,
+                monthlyGrowth, 12 / paymentsPerYear, 1 - taxRate, years, capital, income));
+
+        List<DripBand> bands = new ArrayList<>(years);
+        for (int year = 0; year < years; year++) {
+            int from = year * width;
+            int to = from + width;
+            double[] c = percentiles(capital, from, to);
+            double[] i = percentiles(income, from, to);
+            bands.add(new DripBand(year + 1, c[0], c[1], c[2], i[0], i[1], i[2]));
+        }
+        return bands;
+    }
+
+    /** Year-over-year dividend changes from the history, or just the average growth if it is too short. */
+    static double[] growthSamples(Stock stock) {
+        List<Stock.DividendRecord> history = stock.getDividendHistory() == null ? List.of()
+                : stock.getDividendHistory().stream()
+                        .sorted(Comparator.comparingInt(Stock.DividendRecord::getYear))
+                        .toList();
+        double[] samples = new double[Math.max(history.size() - 1, 0)];
+        int count = 0;
+        for (int k = 1; k < history.size(); k++) {
+            Stock.DividendRecord previous = history.get(k - 1);
+            Stock.DividendRecord current = history.get(k);
+            if (current.getYear() == previous.getYear() + 1 && previous.getDividendPerShare() > 0) {
+                double change = current.getDividendPerShare() / previous.getDividendPerShare() - 1;
+                samples[count++] = Math.max(-1.0, Math.min(change, 1.0));
+            }
+        }
+        if (count < MIN_GROWTH_SAMPLES) {
+            return new double[] { stock.getDividendGrowth() / 100.0 };
+        }
+        return Arrays.copyOf(samples, count);
+    }
+
+    // P10, P50 and P90 by selection rather than a full sort; reorders the slice
+    private static double[] percentiles(float[] values, int from, int to) {
+        int n = to - from;
+        int p10 = from + (int) (0.10 * (n - 1));
+        int p50 = from + (int) (0.50 * (n - 1));
+        int p90 = from + (int) (0.90 * (n - 1));
+        select(values, from, to - 1, p50);
+        select(values, from, p50 - 1, p10);
+        select(values, p50 + 1, to - 1, p90);
+        return new double[] { values[p10], values[p50], values[p90] };
+    }
+
+    // Hoare quickselect: afterwards values[k] holds the element a sort would put there
+    private static void select(float[] values, int low, int high, int k) {
+        while (low < high) {
+            float pivot = values[(low + high) >>> 1];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    float tmp = values[i];
+                    values[i++] = values[j];
+                    values[j--] = tmp;
+                }
+            }
+            if (k <= j) {
+                high = j;
+            } else if (k >= i) {
+                low = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static final class PathTask extends RecursiveAction {
+        private final SplittableRandom[] randoms;
+        private final int fromLeaf;
+        private final int toLeaf;
+        private final int paths;
+        private final int perLeaf;
+        private final double startYield;
+        private final double[] monthlyGrowth;
+        private final int monthsPerPayment;
+        private final double afterTax;
+        private final int years;
+        private final float[] capital;
+        private final float[] income;
+
+        PathTask(SplittableRandom[] randoms, int fromLeaf, int toLeaf, int paths, int perLeaf, double startYield,
+                double[] monthlyGrowth, int monthsPerPayment, double afterTax, int years, float[] capital,
+                float[] income) {
+            this.randoms = randoms;
+            this.fromLeaf = fromLeaf;
+            this.toLeaf = toLeaf;
+            this.paths = paths;
+            this.perLeaf = perLeaf;
+            this.startYield = startYield;
+            this.monthlyGrowth = monthlyGrowth;
+            this.monthsPerPayment = monthsPerPayment;
+            this.afterTax = afterTax;
+            this.years = years;
+            this.capital = capital;
+            this.income = income;
+        }
+
+        @Override
+        protected void compute() {
+            if (toLeaf - fromLeaf > 1) {
+                int mid = (fromLeaf + toLeaf) >>> 1;
+                invokeAll(
+                        new PathTask(randoms, fromLeaf, mid, paths, perLeaf, startYield, monthlyGrowth,
+                                monthsPerPayment, afterTax, years, capital, income),
+                        new PathTask(randoms, mid, toLeaf, paths, perLeaf, startYield, monthlyGrowth,
+                                monthsPerPayment, afterTax, years, capital, income));
+                return;
+            }
+            int leaves = randoms.length;
+            int from = (int) ((long) fromLeaf * paths / leaves);
+            int n = (int) ((long) (fromLeaf + 1) * paths / leaves) - from;
+            SplittableRandom random = randoms[fromLeaf];
+
+            // Leaf-local columns: leafCapital[year * n + path]
+            float[] leafCapital = new float[years * n];
+            float[] leafIncome = new float[years * n];
+            for (int path = 0; path < n; path++) {
+                double yield = startYield;
+                double value = 1.0;
+                for (int year = 0, slot = path; year < years; year++, slot += n) {
+                    double growth = monthlyGrowth[random.nextInt(monthlyGrowth.length)];
+                    // Same month loop as DripProjectionEngine.project, without contributions
+                    for (int month = 1; month <= 12; month++) {
+                        yield *= growth;
+                        if (month % monthsPerPayment == 0) {
+                            value += value * yield * monthsPerPayment / 12 * afterTax;
+                        }
+                    }
+                    leafCapital[slot] = (float) value;
+                    leafIncome[slot] = (float) (value * yield * afterTax / 12);
+                }
+            }
+
+            int width = leaves * perLeaf;
+            for (int year = 0; year < years; year++) {
+                int offset = year * width + fromLeaf * perLeaf;
+                reduce(leafCapital, year * n, n, capital, offset, perLeaf);
+                reduce(leafIncome, year * n, n, income, offset, perLeaf);
+            }
+        }
+
+        // Sorts one year of this leaf and keeps the order statistics at the midpoints of equal rank strata
+        private static void reduce(float[] column, int from, int n, float[] reservoir, int offset, int perLeaf) {
+            Arrays.sort(column, from, from + n);
+            for (int k = 0; k < perLeaf; k++) {
+                reservoir[offset + k] = column[from + (int) ((2L * k + 1) * n / (2L * perLeaf))];
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.dividendgoal.service;
 
+import org.example.dividendgoal.model.DripBand;
 import org.example.dividendgoal.model.DripProjection;
+import org.example.dividendgoal.model.Stock;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -11,16 +13,52 @@ public class DripSimulationService {
 
     private static final List<Integer> YEARS = List.of(1, 3, 5, 10);
 
-    public List<DripProjection> simulate(double startingCapital, double dividendYieldPercentage) {
-        List<DripProjection> projections = new ArrayList<>();
-        double annualRate = dividendYieldPercentage / 100.0;
+    private static final int PAGE_HORIZON = 10;
 
+    private final DripProjectionEngine projectionEngine;
+    private final DripMonteCarloService monteCarloService;
+
+    public DripSimulationService(DripProjectionEngine projectionEngine, DripMonteCarloService monteCarloService) {
+        this.projectionEngine = projectionEngine;
+        this.monteCarloService = monteCarloService;
+    }
+
+    /**
+     * Snowball table for the result pages: after-tax dividends reinvested on the
+     * stock's payment schedule, growing at its dividend growth rate.
+     */
+    public List<DripProjection> simulate(Stock stock, double startingCapital) {
+        DripProjectionEngine.Schedule schedule = project(stock, startingCapital, 0, PAGE_HORIZON);
+        List<DripProjection> projections = new ArrayList<>(YEARS.size());
         for (Integer year : YEARS) {
-            double estimatedCapital = startingCapital * Math.pow(1 + annualRate, year);
-            double estimatedMonthlyIncome = estimatedCapital * annualRate / 12;
-            projections.add(new DripProjection(year, estimatedCapital, estimatedMonthlyIncome));
+            projections.add(new DripProjection(year, schedule.capital(year), schedule.monthlyIncome(year)));
         }
-
         return projections;
     }
+
+    /** Full schedule in this thread's reusable buffer; see {@link DripProjectionEngine#project}. */
+    public DripProjectionEngine.Schedule project(Stock stock, double startingCapital, double monthlyContribution,
+            int years) {
+        return projectionEngine.project(startingCapital, stock.getYield(), stock.getDividendGrowth(),
+                DripProjectionEngine.paymentsPerYear(stock.getFrequency()), monthlyContribution,
+                DividendCalculationService.DIVIDEND_TAX_RATE, years);
+    }
+
+    /**
+     * Stochastic counterpart of {@link #simulate}: P10/P50/P90 of capital and
+     * monthly income for every year up to {@code years}, from paths that replay
+     * the stock's dividend history.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the simulator is saturated
+     */
+    public List<DripBand> simulateMonteCarlo(Stock stock, double startingCapital, int years) {
+        int horizon = Math.max(1, Math.min(years, DripMonteCarloService.MAX_YEARS));
+        return monteCarloService.simulateUnit(stock).subList(0, horizon).stream()
+                .map(band -> band.scaled(startingCapital))
+                .toList();
+    }
+
+    public int getMonteCarloPaths() {
+        return monteCarloService.getPaths();
+    }
 }
@@ -0,0 +1,140 @@
+package org.example.dividendgoal.service;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+/**
+ * [Performance] Inverse of the DRIP projection: the monthly contribution that
+ * reaches an after-tax monthly income target after a number of years.
+ *
+ * The root of income(c) - target is found with Newton steps kept inside a
+ * bracket that only ever shrinks, falling back to bisection whenever a step
+ * would leave it. Each evaluation is one {@link DripProjectionEngine} run.
+ */
+@Service
+public class GoalSeekService {
+
+    private static final int MAX_EVALUATIONS = 60;
+    private static final double MAX_CONTRIBUTION = 1e9;
+    private static final double TOLERANCE = 0.005;
+
+    private final DripProjectionEngine projectionEngine;
+
+    public GoalSeekService(DripProjectionEngine projectionEngine) {
+        this.projectionEngine = projectionEngine;
+    }
+
+    /**
+     * Cached on the quantized goal, so a slider dragging through nearby values
+     * is mostly served from memory.
+     */
+    @Cacheable(cacheNames = "goalSeek", key = "#goal")
+    public Solution solve(Goal goal) {
+        Evaluator f = new Evaluator(goal);
+
+        double low = 0;
+        double fLow = f.apply(low);
+        if (fLow >= 0) {
+            return f.solution(0, true);
+        }
+        if (goal.yieldPercentage() <= 0) {
+            return f.solution(Double.NaN, false);
+        }
+
+        // Bracket the root; the first guess ignores compounding, so it usually overshoots
+        double high = Math.max(1, goal.targetMonthlyIncome() * 12 / (goal.yieldPercentage() / 100.0)
+                / Math.max(goal.years() * 12, 1));
+        double fHigh = f.apply(high);
+        while (fHigh < 0) {
+            if (high >= MAX_CONTRIBUTION || f.evaluations >= MAX_EVALUATIONS) {
+                return f.solution(Double.NaN, false);
+            }
+            low = high;
+            fLow = fHigh;
+            high *= 4;
+            fHigh = f.apply(high);
+        }
+
+        double x = high;
+        double fx = fHigh;
+        double slope = (fHigh - fLow) / (high - low);
+        while (high - low > TOLERANCE && f.evaluations < MAX_EVALUATIONS) {
+            double next = x - fx / slope;
+            if (!(next > low && next < high)) {
+                next = (low + high) / 2;
+            }
+            double fNext = f.apply(next);
+            slope = (fNext - fx) / (next - x);
+            x = next;
+            fx = fNext;
+            if (fx < 0) {
+                low = x;
+            } else {
+                high = x;
+            }
+            // Income is affine in the contribution, so a Newton step lands within a cent of
+            // the root; probing a tolerance past it closes the bracket instead of bisecting
+            if (high - low > TOLERANCE && f.evaluations < MAX_EVALUATIONS) {
+                double probe = fx < 0 ? x + TOLERANCE : x - TOLERANCE;
+                if (probe > low && probe < high) {
+                    if (f.apply(probe) < 0) {
+                        low = probe;
+                    } else {
+                        high = probe;
+                    }
+                }
+            }
+        }
+        return f.solution(high, true);
+    }
+
+    /**
+     * Solver inputs, quantized so that nearby requests share a cache entry:
+     * income and capital to the dollar, rates to a hundredth of a percent.
+     */
+    public record Goal(double yieldPercentage, double growthPercentage, int paymentsPerYear,
+            double targetMonthlyIncome, int years, double startingCapital) {
+
+        public Goal {
+            yieldPercentage = Math.round(yieldPercentage * 100) / 100.0;
+            growthPercentage = Math.round(growthPercentage * 100) / 100.0;
+            targetMonthlyIncome = Math.round(targetMonthlyIncome);
+            startingCapital = Math.round(startingCapital);
+        }
+    }
+
+    /**
+     * {@code monthlyContribution} is NaN when the target cannot be reached, e.g.
+     * with a zero yield.
+     */
+    public record Solution(boolean reachable, double monthlyContribution, double projectedCapital,
+            double projectedMonthlyIncome, int evaluations) {
+    }
+
+    private final class Evaluator {
+        private final Goal goal;
+        private int evaluations;
+
+        Evaluator(Goal goal) {
+            this.goal = goal;
+        }
+
+        double apply(double contribution) {
+            evaluations++;
+            return projectionEngine.project(goal.startingCapital(), goal.yieldPercentage(), goal.growthPercentage(),
+                    goal.paymentsPerYear(), contribution, DividendCalculationService.DIVIDEND_TAX_RATE, goal.years())
+                    .monthlyIncome(goal.years()) - goal.targetMonthlyIncome();
+        }
+
+        Solution solution(double contribution, boolean reachable) {
+            if (!reachable) {
+                return new Solution(false, Double.NaN, 0, 0, evaluations);
+            }
+            DripProjectionEngine.Schedule schedule = projectionEngine.project(goal.startingCapital(),
+                    goal.yieldPercentage(), goal.growthPercentage(), goal.paymentsPerYear(), contribution,
+                    DividendCalculationService.DIVIDEND_TAX_RATE, goal.years());
+            return new Solution(true, contribution, schedule.capital(goal.years()),
+                    schedule.monthlyIncome(goal.years()), evaluations);
+        }
+    }
+}
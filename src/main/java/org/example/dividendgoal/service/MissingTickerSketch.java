@@ -0,0 +1,95 @@
+package org.example.dividendgoal.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [Performance] Fixed-memory heavy-hitter counter (Space-Saving).
+ *
+ * Keeps at most {@code capacity} keys no matter how many distinct keys are
+ * offered: a new key evicts the smallest counter and inherits its count as
+ * the error bound, so genuinely popular keys always survive while one-off
+ * noise churns through the bottom slots. Keys are hashed onto independently
+ * locked stripes so concurrent requests rarely contend.
+ */
+public final class MissingTickerSketch {
+
+    private final Stripe[] stripes;
+    private final LongAdder totalHits = new LongAdder();
+
+    public MissingTickerSketch(int capacity, int stripeCount) {
+        if (capacity < stripeCount || stripeCount < 1) {
+            throw new IllegalArgumentException("capacity must be >= stripeCount >= 1");
+        }
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(capacity / stripeCount);
+        }
+    }
+
+    /** Counts one hit and returns the key's estimated count (never below the true count). */
+    public long record(String key) {
+        totalHits.increment();
+        return stripes[Math.floorMod(key.hashCode(), stripes.length)].offer(key);
+    }
+
+    /** Up to {@code limit} heaviest keys, highest estimate first. */
+    public List<Entry> top(int limit) {
+        List<Entry> entries = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.copyTo(entries);
+        }
+        entries.sort(Comparator.comparingLong(Entry::count).reversed().thenComparing(Entry::key));
+        return entries.size() > limit ? List.copyOf(entries.subList(0, limit)) : entries;
+    }
+
+    /** Every hit ever recorded, including those of evicted keys. */
+    public long totalHits() {
+        return totalHits.sum();
+    }
+
+    /** {@code count - error} is a guaranteed lower bound on the true count. */
+    public record Entry(String key, long count, long error) {
+    }
+
+    private static final class Stripe {
+        private final int capacity;
+        private final Map<String, long[]> counters; // {count, error}
+
+        Stripe(int capacity) {
+            this.capacity = capacity;
+            this.counters = new HashMap<>(capacity * 2);
+        }
+
+        synchronized long offer(String key) {
+            long[] counter = counters.get(key);
+            if (counter != null) {
+                return ++counter[0];
+            }
+            if (counters.size() < capacity) {
+                counters.put(key, new long[] { 1, 0 });
+                return 1;
+            }
+            // Linear scan is fine: stripes hold a few dozen keys
+            String minKey = null;
+            long[] min = null;
+            for (Map.Entry<String, long[]> entry : counters.entrySet()) {
+                if (min == null || entry.getValue()[0] < min[0]) {
+                    minKey = entry.getKey();
+                    min = entry.getValue();
+                }
+            }
+            counters.remove(minKey);
+            counters.put(key, new long[] { min[0] + 1, min[0] });
+            return min[0] + 1;
+        }
+
+        synchronized void copyTo(List<Entry> target) {
+            counters.forEach((key, counter) -> target.add(new Entry(key, counter[0], counter[1])));
+        }
+    }
+}
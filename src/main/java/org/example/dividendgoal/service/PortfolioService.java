@@ -0,0 +1,198 @@
+package org.example.dividendgoal.service;
+
+import org.example.dividendgoal.catalog.StockCatalog;
+import org.example.dividendgoal.catalog.StockMetrics;
+import org.example.dividendgoal.model.DripProjection;
+import org.example.dividendgoal.model.Stock;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * [Performance] Income simulator for a multi-holding portfolio.
+ *
+ * Every holding adds its dividends into a fixed 12-slot calendar and its DRIP
+ * schedule into per-year columns of a {@link Totals} accumulator; large
+ * portfolios are split across threads and the accumulators merged slot by
+ * slot, so the cost is a handful of array adds per holding.
+ *
+ * The dataset has no ex-dividend dates, so payments are placed at the end of
+ * each period (quarterly: Mar/Jun/Sep/Dec), the same schedule the DRIP engine
+ * compounds on.
+ */
+@Service
+public class PortfolioService {
+
+    public static final int MAX_HOLDINGS = 1_000;
+    public static final int MAX_YEARS = 30;
+
+    private static final int PARALLEL_THRESHOLD = 128;
+
+    private final StockDataService stockDataService;
+    private final DripProjectionEngine projectionEngine;
+
+    public PortfolioService(StockDataService stockDataService, DripProjectionEngine projectionEngine) {
+        this.stockDataService = stockDataService;
+        this.projectionEngine = projectionEngine;
+    }
+
+    /**
+     * Holdings with an explicit {@code capital} keep it; the rest split
+     * {@code totalCapital} in proportion to their {@code weight}.
+     *
+     * @throws IllegalArgumentException for an empty or oversized portfolio,
+     *                                  negative amounts or a horizon outside 1..{@link #MAX_YEARS}
+     */
+    public Result simulate(List<HoldingInput> inputs, double totalCapital, int years) {
+        return simulate(stockDataService.getCatalog(), inputs, totalCapital, years);
+    }
+
+    Result simulate(StockCatalog catalog, List<HoldingInput> inputs, double totalCapital, int years) {
+        if (inputs == null || inputs.isEmpty() || inputs.size() > MAX_HOLDINGS) {
+            throw new IllegalArgumentException("A portfolio needs 1-" + MAX_HOLDINGS + " holdings");
+        }
+        if (years < 1 || years > MAX_YEARS) {
+            throw new IllegalArgumentException("years must be between 1 and " + MAX_YEARS);
+        }
+
+        int[] ordinals = new int[inputs.size()];
+        int[] paymentsPerYear = new int[inputs.size()];
+        double[] capital = new double[inputs.size()];
+        double weightSum = 0;
+        double explicitCapital = 0;
+        Set<String> unknown = new LinkedHashSet<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            HoldingInput input = inputs.get(i);
+            if ((input.capital() != null && input.capital() < 0) || (input.weight() != null && input.weight() < 0)) {
+                throw new IllegalArgumentException("capital and weight must not be negative");
+            }
+            ordinals[i] = input.ticker() == null ? -1 : catalog.ordinalOf(input.ticker());
+            if (ordinals[i] < 0) {
+                unknown.add(String.valueOf(input.ticker()));
+                continue;
+            }
+            paymentsPerYear[i] = DripProjectionEngine.paymentsPerYear(
+                    catalog.getStocks().get(ordinals[i]).getFrequency());
+            if (input.capital() != null) {
+                capital[i] = input.capital();
+                explicitCapital += capital[i];
+            } else if (input.weight() != null) {
+                weightSum += input.weight();
+            }
+        }
+        double weightedCapital = Math.max(totalCapital - explicitCapital, 0);
+        for (int i = 0; i < inputs.size(); i++) {
+            HoldingInput input = inputs.get(i);
+            if (ordinals[i] >= 0 && input.capital() == null && input.weight() != null && weightSum > 0) {
+                capital[i] = weightedCapital * input.weight() / weightSum;
+            }
+        }
+
+        IntStream range = IntStream.range(0, inputs.size());
+        if (inputs.size() >= PARALLEL_THRESHOLD) {
+            range = range.parallel();
+        }
+        Totals totals = range.collect(() -> new Totals(years),
+                (acc, i) -> acc.add(catalog.getMetrics(), ordinals[i], capital[i], paymentsPerYear[i],
+                        projectionEngine),
+                Totals::merge);
+
+        List<Holding> holdings = new ArrayList<>(inputs.size());
+        StockMetrics metrics = catalog.getMetrics();
+        for (int i = 0; i < inputs.size(); i++) {
+            if (ordinals[i] < 0) {
+                continue;
+            }
+            Stock stock = catalog.getStocks().get(ordinals[i]);
+            double annualIncome = capital[i] * metrics.yield(ordinals[i]) / 100.0;
+            holdings.add(new Holding(stock.getTicker(), stock.getName(), stock.getFrequency(), capital[i],
+                    totals.capital > 0 ? capital[i] / totals.capital * 100 : 0, metrics.yield(ordinals[i]),
+                    metrics.dividendGrowth(ordinals[i]), annualIncome));
+        }
+
+        List<DripProjection> drip = new ArrayList<>(years);
+        for (int year = 1; year <= years; year++) {
+            drip.add(new DripProjection(year, totals.dripCapital[year], totals.dripMonthlyIncome[year]));
+        }
+        double yield = totals.capital > 0 ? totals.annualIncome / totals.capital * 100 : 0;
+        double growth = totals.capital > 0 ? totals.growthTimesCapital / totals.capital : 0;
+        return new Result(holdings, List.copyOf(unknown), totals.capital, totals.annualIncome,
+                totals.annualIncome / 12, yield, growth, totals.calendar, drip);
+    }
+
+    /** Capital-weighted sums and the 12-slot calendar; one per worker, merged at the end. */
+    private static final class Totals {
+        private final int years;
+        private final double[] calendar = new double[12];
+        private final double[] dripCapital;
+        private final double[] dripMonthlyIncome;
+        private double capital;
+        private double annualIncome;
+        private double growthTimesCapital;
+
+        Totals(int years) {
+            this.years = years;
+            this.dripCapital = new double[years + 1];
+            this.dripMonthlyIncome = new double[years + 1];
+        }
+
+        void add(StockMetrics metrics, int ordinal, double amount, int paymentsPerYear,
+                DripProjectionEngine engine) {
+            if (ordinal < 0 || amount <= 0) {
+                return;
+            }
+            double yield = metrics.yield(ordinal);
+            double growth = metrics.dividendGrowth(ordinal);
+            double income = amount * yield / 100.0;
+
+            capital += amount;
+            annualIncome += income;
+            growthTimesCapital += growth * amount;
+            int monthsPerPayment = 12 / paymentsPerYear;
+            double payment = income / paymentsPerYear;
+            for (int month = monthsPerPayment - 1; month < 12; month += monthsPerPayment) {
+                calendar[month] += payment;
+            }
+
+            DripProjectionEngine.Schedule schedule = engine.project(amount, yield, growth, paymentsPerYear, 0,
+                    DividendCalculationService.DIVIDEND_TAX_RATE, years);
+            for (int year = 0; year <= years; year++) {
+                dripCapital[year] += schedule.capital(year);
+                dripMonthlyIncome[year] += schedule.monthlyIncome(year);
+            }
+        }
+
+        void merge(Totals other) {
+            for (int month = 0; month < 12; month++) {
+                calendar[month] += other.calendar[month];
+            }
+            for (int year = 0; year <= years; year++) {
+                dripCapital[year] += other.dripCapital[year];
+                dripMonthlyIncome[year] += other.dripMonthlyIncome[year];
+            }
+            capital += other.capital;
+            annualIncome += other.annualIncome;
+            growthTimesCapital += other.growthTimesCapital;
+        }
+    }
+
+    public record HoldingInput(String ticker, Double capital, Double weight) {
+    }
+
+    public record Holding(String ticker, String name, String frequency, double capital, double weight,
+            double yield, double dividendGrowth, double annualIncome) {
+    }
+
+    /**
+     * {@code monthlyCalendar[0]} is January. Income figures are before tax;
+     * the DRIP projection reinvests after-tax dividends like the single-stock pages.
+     */
+    public record Result(List<Holding> holdings, List<String> unknownTickers, double totalCapital,
+            double annualIncome, double averageMonthlyIncome, double yield, double weightedGrowth,
+            double[] monthlyCalendar, List<DripProjection> drip) {
+    }
+}
@@ -1,76 +1,359 @@
 package org.example.dividendgoal.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.example.dividendgoal.catalog.CatalogJson;
+import org.example.dividendgoal.catalog.StockCatalog;
+import org.example.dividendgoal.catalog.StockDerivations;
+import org.example.dividendgoal.catalog.StockJsonLoader;
+import org.example.dividendgoal.catalog.StockSnapshot;
 import org.example.dividendgoal.model.Stock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class StockDataService {
     private static final Logger logger = LoggerFactory.getLogger(StockDataService.class);
+    private static final String CLASSPATH_DATASET = "data/stocks.json";
+    private static final String CLASSPATH_SHARDS = "classpath*:data/stocks-*.json";
+    private static final String CLASSPATH_SNAPSHOT = "data/" + StockSnapshot.FILE_NAME;
+    private static final long WATCH_DEBOUNCE_MILLIS = 500;
+    private static final int MISSING_TICKER_CAPACITY = 256;
+    private static final int MISSING_TICKER_SUMMARY_SIZE = 50;
+    private static final int MISSING_TICKER_MAX_LENGTH = 16;
+    private static final int MISSING_TICKER_LOGS_PER_MINUTE = 30;
+
     private final ObjectMapper objectMapper;
-    private List<Stock> cachedStocks = Collections.emptyList();
+    private final CacheManager cacheManager;
+    private final Path externalDataPath;
+    private final Path snapshotPath;
+    private final boolean watchEnabled;
+
+    // [Performance] Immutable indexed snapshot, swapped as a single volatile write
+    private volatile StockCatalog catalog = StockCatalog.empty();
+    // When the current version was first published (epoch millis); written before the catalog it describes
+    private volatile long catalogPublishedAt;
+    // [Performance] Pre-serialized /api/catalog.<hash>.json for the current catalog, built on the reload thread
+    private volatile CatalogJson catalogJson;
+
+    // Reloads run off the request threads, one at a time, so swaps never interleave
+    private final ScheduledExecutorService reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stock-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ScheduledFuture<?> pendingWatchReload;
+    private WatchService watchService;
 
-    // [추가] 없는 티커를 메모리에 저장 (티커명, 요청 횟수)
-    private final Map<String, Integer> missingTickerLog = new ConcurrentHashMap<>();
+    // [Performance] 없는 티커 요청 집계: 고정 크기 top-K 스케치 (봇이 임의 티커를 뿌려도 힙이 늘지 않음)
+    private final MissingTickerSketch missingTickers = new MissingTickerSketch(MISSING_TICKER_CAPACITY, 8);
+    private final AtomicLong missingTickerLogMinute = new AtomicLong();
+    private final AtomicInteger missingTickerLogsThisMinute = new AtomicInteger();
 
-    public StockDataService(ObjectMapper objectMapper) {
+    public StockDataService(ObjectMapper objectMapper,
+            CacheManager cacheManager,
+            @Value("${stocks.data-path:}") String dataPath,
+            @Value("${stocks.snapshot-path:}") String snapshotPath,
+            @Value("${stocks.watch.enabled:true}") boolean watchEnabled) {
         this.objectMapper = objectMapper;
+        this.cacheManager = cacheManager;
+        this.externalDataPath = dataPath == null || dataPath.isBlank() ? null : Path.of(dataPath).toAbsolutePath();
+        this.snapshotPath = snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath).toAbsolutePath();
+        this.watchEnabled = watchEnabled;
+        this.catalogJson = CatalogJson.of(catalog, objectMapper.getFactory());
     }
 
     @PostConstruct
-    @CacheEvict(value = { "stocks", "allStocks", "availableTickers" }, allEntries = true)
     public void loadStocks() {
-        ClassPathResource resource = new ClassPathResource("data/stocks.json");
-        try (InputStream is = resource.getInputStream()) {
-            List<Stock> stocks = objectMapper.readValue(is, new TypeReference<>() {
-            });
+        ReloadResult result = reloadNow();
+        if (!result.applied()) {
+            logger.error("Initial stock load failed, serving an empty catalog: {}", result.errors());
+        }
+        if (externalDataPath != null && watchEnabled) {
+            startWatching();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloadExecutor.shutdownNow();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close stock data watcher", e);
+            }
+        }
+    }
+
+    /**
+     * [Performance] Parses and validates the dataset on the reload thread, then
+     * swaps the catalog atomically. A rejected dataset leaves the current
+     * snapshot in place, so a bad push never takes the site down.
+     */
+    public CompletableFuture<ReloadResult> reloadStocks() {
+        return CompletableFuture.supplyAsync(this::reloadNow, reloadExecutor);
+    }
+
+    private ReloadResult reloadNow() {
+        long start = System.nanoTime();
+        // An external stocks.json is the live, hot-reloadable source and always wins over the build snapshot
+        if (externalDataPath == null) {
+            List<Stock> snapshotStocks = readSnapshot();
+            if (snapshotStocks != null) {
+                return publish(snapshotStocks, 0, List.of(), describeSnapshot(), start);
+            }
+        }
+
+        // [Performance] Records stream straight into the loader; no document tree is built
+        StockJsonLoader loader = new StockJsonLoader(objectMapper.getFactory());
+        try {
+            for (Resource source : datasetSources()) {
+                try (InputStream is = source.getInputStream()) {
+                    loader.read(is, source.getFilename());
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Failed to read stock dataset from {}", describeSource(), e);
+            List<String> errors = new ArrayList<>(loader.getErrors());
+            errors.add("Unreadable dataset: " + e.getMessage());
+            return ReloadResult.rejected(catalog, loader.getRejectedRecords(), errors);
+        }
+
+        if (loader.getRejectedRecords() > 0) {
+            logger.warn("Skipped {} invalid stock records from {}: {}", loader.getRejectedRecords(), describeSource(),
+                    loader.getErrors());
+        }
+        if (loader.getStocks().isEmpty()) {
+            logger.error("Rejected stock dataset from {}: no valid records", describeSource());
+            return ReloadResult.rejected(catalog, loader.getRejectedRecords(), loader.getErrors());
+        }
+
+        return publish(loader.getStocks(), loader.getRejectedRecords(), loader.getErrors(), describeSource(), start);
+    }
+
+    private ReloadResult publish(List<Stock> stocks, int rejectedRecords, List<String> errors, String source,
+            long start) {
+        StockDerivations.Summary derived;
+        StockCatalog next;
+        CatalogJson nextJson;
+        try {
+            // [YMYL] Fill omitted metrics from data the dataset does have (history, sector peers)
+            derived = StockDerivations.apply(stocks);
+            // [Performance] Build every index once, then publish atomically
+            next = StockCatalog.of(stocks);
+            nextJson = CatalogJson.of(next, objectMapper.getFactory());
+        } catch (RuntimeException e) {
+            // Records that pass validation can still break an index; that is a rejected dataset, not an outage
+            logger.error("Failed to build a catalog from {}, keeping catalog {}", source, catalog.getVersion(), e);
+            List<String> failed = new ArrayList<>(errors);
+            failed.add("Catalog build failed: " + e);
+            return ReloadResult.rejected(catalog, rejectedRecords, failed);
+        }
+        String previousVersion = catalog.getVersion();
+        if (!next.getVersion().equals(previousVersion)) {
+            this.catalogPublishedAt = System.currentTimeMillis();
+        }
+        this.catalogJson = nextJson;
+        this.catalog = next;
+        evictDatasetCaches();
+
+        logger.info("Loaded {} stocks into catalog {} from {} in {} ms (previous {}).", next.size(),
+                next.getVersion(), source, (System.nanoTime() - start) / 1_000_000, previousVersion);
+        logger.info("Derived {} sector medians, {} growth rates, {} growth streaks and {} cut flags.",
+                derived.sectorMedians(), derived.growthRates(), derived.streaks(), derived.cutFlags());
+        return new ReloadResult(true, next.size(), rejectedRecords, next.getVersion(), List.copyOf(errors));
+    }
+
+    /**
+     * [Performance] Reads the binary snapshot produced by the {@code stockSnapshot}
+     * build task. A snapshot on disk is decoded straight from a read-only mapping
+     * of the file, one packed inside the jar from a single copied buffer; either
+     * way the result is plain {@link Stock} objects. Returns null when there is
+     * no usable snapshot, so the caller falls back to parsing JSON.
+     */
+    private List<Stock> readSnapshot() {
+        Resource snapshot = snapshotPath != null ? new FileSystemResource(snapshotPath)
+                : new ClassPathResource(CLASSPATH_SNAPSHOT);
+        if (!snapshot.exists()) {
+            return null;
+        }
+        try {
+            List<Stock> stocks;
+            if (snapshot.isFile()) {
+                try (FileChannel channel = FileChannel.open(snapshot.getFile().toPath(), StandardOpenOption.READ)) {
+                    stocks = StockSnapshot.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+                }
+            } else {
+                try (InputStream is = snapshot.getInputStream()) {
+                    stocks = StockSnapshot.read(ByteBuffer.wrap(is.readAllBytes()));
+                }
+            }
+            return stocks.isEmpty() ? null : stocks;
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable stock snapshot {}, falling back to JSON.", describeSnapshot(), e);
+            return null;
+        }
+    }
+
+    /** Main stocks.json followed by its {@code stocks-*.json} shards in name order. */
+    private List<Resource> datasetSources() throws IOException {
+        List<Resource> sources = new ArrayList<>();
+        List<Resource> shards = new ArrayList<>();
+        if (externalDataPath != null) {
+            sources.add(new FileSystemResource(externalDataPath));
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(externalDataPath.getParent(),
+                    shardGlob(externalDataPath))) {
+                stream.forEach(path -> shards.add(new FileSystemResource(path)));
+            }
+        } else {
+            sources.add(new ClassPathResource(CLASSPATH_DATASET));
+            shards.addAll(Arrays.asList(new PathMatchingResourcePatternResolver().getResources(CLASSPATH_SHARDS)));
+        }
+        shards.sort(Comparator.comparing(Resource::getFilename));
+        sources.addAll(shards);
+        return sources;
+    }
+
+    private static String shardGlob(Path mainFile) {
+        String fileName = mainFile.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String base = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return base + "-*.json";
+    }
+
+    private String describeSnapshot() {
+        return snapshotPath != null ? snapshotPath.toString() : "classpath:" + CLASSPATH_SNAPSHOT;
+    }
 
-            // [수정] 티커 기준 알파벳 순으로 정렬하여 저장
-            this.cachedStocks = stocks.stream()
-                    .collect(Collectors.toList());
+    private String describeSource() {
+        return externalDataPath != null ? externalDataPath.toString() : "classpath:" + CLASSPATH_DATASET;
+    }
+
+    /**
+     * Clears every cache that may hold data derived from the previous snapshot.
+     * Done through the CacheManager because self-invoked @CacheEvict never
+     * passes the proxy.
+     */
+    private void evictDatasetCaches() {
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
 
-            logger.info("Loaded {} stocks in alphabetical order.", cachedStocks.size());
+    private void startWatching() {
+        Path directory = externalDataPath.getParent();
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
         } catch (IOException e) {
-            logger.error("Failed to load stocks.json", e);
-            cachedStocks = Collections.emptyList();
+            logger.error("Cannot watch {} for stock data changes", directory, e);
+            return;
+        }
+
+        Thread watcher = new Thread(this::watchLoop, "stock-data-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        logger.info("Watching {} for stock data changes.", externalDataPath);
+    }
+
+    private void watchLoop() {
+        PathMatcher shardMatcher = FileSystems.getDefault().getPathMatcher("glob:" + shardGlob(externalDataPath));
+        Path fileName = externalDataPath.getFileName();
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    // OVERFLOW carries no file name: events were lost, so reload to be safe
+                    Path changed = (Path) event.context();
+                    if (changed == null || fileName.equals(changed) || shardMatcher.matches(changed)) {
+                        scheduleWatchReload();
+                    }
+                }
+                if (!key.reset()) {
+                    logger.warn("Stock data directory is no longer watchable; hot reload stopped.");
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Editors and deploy scripts emit several events per save; coalesce them into one reload
+    synchronized void scheduleWatchReload() {
+        if (pendingWatchReload != null) {
+            pendingWatchReload.cancel(false);
         }
+        pendingWatchReload = reloadExecutor.schedule(this::reloadNow, WATCH_DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
     }
 
     // [YMYL-Compliant] No Mock Enrichment. Missing data stays missing.
 
-    @Cacheable("allStocks")
+    public StockCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * When the data behind {@link #getCatalog()} last changed, in epoch millis.
+     * A reload of identical data keeps the old time; a restart starts a new one.
+     */
+    public long getCatalogPublishedAt() {
+        return catalogPublishedAt;
+    }
+
+    public CatalogJson getCatalogJson() {
+        return catalogJson;
+    }
+
     public List<Stock> getAllStocks() {
-        return cachedStocks;
+        return catalog.getStocks();
     }
 
-    @Cacheable(value = "stocks", key = "#ticker")
+    // [Performance] O(1) hash lookup on the normalized ticker (no proxy, no scan)
     public Optional<Stock> findByTicker(String ticker) {
-        if (ticker == null)
-            return Optional.empty();
-        String sanitized = ticker.trim().toUpperCase();
-        return cachedStocks.stream()
-                .filter(stock -> sanitized.equals(stock.getTicker().toUpperCase()))
-                .findFirst();
+        return catalog.find(ticker);
     }
 
-    @Cacheable("availableTickers")
     public List<String> getAvailableTickers() {
-        return cachedStocks.stream()
-                .map(Stock::getTicker)
-                .collect(Collectors.toList());
+        return catalog.getTickers();
     }
 
     // [추가] 없는 티커 로그 기록 메서드
@@ -78,65 +361,86 @@ public class StockDataService {
         if (ticker == null || ticker.isBlank())
             return;
         String upperTicker = ticker.trim().toUpperCase();
-        missingTickerLog.merge(upperTicker, 1, Integer::sum);
-        logger.warn("MISSING_TICKER_LOGGED: {}", upperTicker);
+        if (upperTicker.length() > MISSING_TICKER_MAX_LENGTH) {
+            upperTicker = upperTicker.substring(0, MISSING_TICKER_MAX_LENGTH);
+        }
+        long count = missingTickers.record(upperTicker);
+        // Sampled: a ticker is logged at 1, 10, 100... requests, and never more than N lines a minute
+        if (isPowerOfTen(count) && acquireMissingTickerLogPermit()) {
+            logger.warn("MISSING_TICKER_LOGGED: {} (~{} requests)", upperTicker, count);
+        }
     }
 
-    /**
-     * [Performance] Manual cache eviction method
-     * 
-     * Call this method after updating stocks.json to refresh the cache.
-     * The @PostConstruct method already uses @CacheEvict to clear cache on
-     * application startup.
-     * 
-     * Future enhancement: Add a REST endpoint for manual cache refresh if needed.
-     * Example usage: POST /api/admin/refresh-stock-cache
-     */
-    // @CacheEvict(value = {"stocks", "allStocks", "availableTickers"}, allEntries =
-    // true)
-    // public void refreshStockCache() {
-    // loadStocks();
-    // logger.info("Stock cache manually refreshed");
-    // }
+    // [추가] 수집된 로그 확인용: 요청 수 상위 티커 (추정치, 내림차순)
+    public Map<String, Long> getMissingTickerSummary() {
+        Map<String, Long> summary = new LinkedHashMap<>();
+        for (MissingTickerSketch.Entry entry : missingTickers.top(MISSING_TICKER_SUMMARY_SIZE)) {
+            summary.put(entry.key(), entry.count());
+        }
+        return summary;
+    }
 
-    // [추가] 수집된 로그 확인용 (필요 시 컨트롤러에서 호출)
-    public Map<String, Integer> getMissingTickerSummary() {
-        return new TreeMap<>(missingTickerLog);
+    public MissingTickerSketch getMissingTickers() {
+        return missingTickers;
     }
 
-    // [SEO] Internal Linking: Get similar stocks from the same sector
-    // [SEO] Internal Linking: Get similar stocks from same sector (with Backfill)
-    public List<Stock> getSimilarStocks(String sector, String currentTicker, int limit) {
-        // 1. Sector-based filtering
-        List<Stock> sectorMatch;
-        if (sector != null && !sector.isBlank()) {
-            sectorMatch = cachedStocks.stream()
-                    .filter(stock -> sector.equalsIgnoreCase(stock.getSector()))
-                    .filter(stock -> !currentTicker.equalsIgnoreCase(stock.getTicker()))
-                    .filter(stock -> stock.getYield() > 0)
-                    .limit(limit)
-                    .collect(Collectors.toCollection(ArrayList::new));
-        } else {
-            sectorMatch = new ArrayList<>();
+    private boolean acquireMissingTickerLogPermit() {
+        long minute = System.currentTimeMillis() / 60_000;
+        long previous = missingTickerLogMinute.get();
+        if (previous != minute && missingTickerLogMinute.compareAndSet(previous, minute)) {
+            missingTickerLogsThisMinute.set(0);
         }
+        return missingTickerLogsThisMinute.incrementAndGet() <= MISSING_TICKER_LOGS_PER_MINUTE;
+    }
 
-        // 2. Backfill if not enough results (e.g. niche sectors like Mortgage REIT)
-        if (sectorMatch.size() < limit) {
-            final List<Stock> existingMatches = sectorMatch; // Capture for lambda
-            List<Stock> popularBackfill = cachedStocks.stream()
-                    .filter(stock -> !stock.getTicker().equalsIgnoreCase(currentTicker))
-                    .filter(stock -> !existingMatches.contains(stock)) // Don't add duplicates
-                    .filter(stock -> stock.getYield() > 3.0) // Only juicy dividends
-                    .collect(Collectors.toList());
+    private static boolean isPowerOfTen(long value) {
+        while (value >= 10 && value % 10 == 0) {
+            value /= 10;
+        }
+        return value == 1;
+    }
 
-            Collections.shuffle(popularBackfill);
+    // [SEO] Internal Linking: Get similar stocks from same sector (with Backfill)
+    // [Performance] Neighbors are precomputed per ticker at load; this is an O(limit) slice,
+    // stable across requests so pages linking to them stay cacheable.
+    public List<Stock> getSimilarStocks(String sector, String currentTicker, int limit) {
+        StockCatalog snapshot = catalog;
+        int ordinal = snapshot.ordinalOf(currentTicker);
+        if (ordinal >= 0) {
+            return snapshot.getSimilarStocks().neighborsOf(ordinal, limit);
+        }
 
-            int needed = limit - sectorMatch.size();
-            for (int i = 0; i < needed && i < popularBackfill.size(); i++) {
-                sectorMatch.add(popularBackfill.get(i));
+        // Unknown ticker: sector members first, then the highest yields (both in fixed order)
+        List<Stock> result = new ArrayList<>(limit);
+        for (Stock stock : snapshot.getSectorStocks(sector)) {
+            if (result.size() >= limit) {
+                return result;
+            }
+            if (stock.getYield() > 0) {
+                result.add(stock);
+            }
+        }
+        for (Stock stock : snapshot.getStocksByYield()) {
+            if (result.size() >= limit || stock.getYield() <= 3.0) {
+                break;
+            }
+            if (!result.contains(stock)) {
+                result.add(stock);
             }
         }
+        return result;
+    }
+
+    /**
+     * Outcome of a load. {@code errors} lists per-record problems (capped); the
+     * load can still be applied when some records were skipped.
+     */
+    public record ReloadResult(boolean applied, int stockCount, int rejectedRecords, String version,
+            List<String> errors) {
 
-        return sectorMatch;
+        /** Nothing was applied: the counts describe the catalog still being served, plus what the loader rejected. */
+        static ReloadResult rejected(StockCatalog current, int rejectedRecords, List<String> errors) {
+            return new ReloadResult(false, current.size(), rejectedRecords, current.getVersion(), List.copyOf(errors));
+        }
     }
-}
\ No newline at end of file
+}
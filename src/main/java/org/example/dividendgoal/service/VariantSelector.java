@@ -0,0 +1,40 @@
+package org.example.dividendgoal.service;
+
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * [Performance] [SEO] Picks copy variants ("lifestyle" comments and the like)
+ * from the canonical URL instead of a shared {@link java.util.Random}.
+ *
+ * The same URL renders the same bytes for the whole month, so the page cache,
+ * ETags and any CDN in front keep working, while different pages still get
+ * different lines. The choice rotates with the month, the same period as
+ * Last-Modified and the ETag, so a new variant always comes with a new
+ * validator. There is no shared state: a pick is a hash and a modulo.
+ */
+@Service
+public class VariantSelector {
+
+    public <T> T pick(String canonicalUrl, List<T> options) {
+        return options.get(index(canonicalUrl, YearMonth.now(), options.size()));
+    }
+
+    static int index(String canonicalUrl, YearMonth period, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("No variants to choose from");
+        }
+        long seed = period.getYear() * 12L + period.getMonthValue() - 1;
+        return (int) Long.remainderUnsigned(mix(seed, canonicalUrl.hashCode()), size);
+    }
+
+    // SplitMix64 finalizer: well-spread and stable across JVMs
+    private static long mix(long seed, int value) {
+        long z = seed * 0x9E3779B97F4A7C15L + value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
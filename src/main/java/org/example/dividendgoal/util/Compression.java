@@ -0,0 +1,86 @@
+package org.example.dividendgoal.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * [Performance] Shared helpers for bodies that are compressed and fingerprinted
+ * once and served many times (page cache, static pages, catalog JSON, capital grid).
+ */
+public final class Compression {
+
+    private Compression() {
+    }
+
+    /** Gzip at the slowest level: callers compress once and serve the bytes many times. */
+    public static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            // In-memory streams do not fail
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /** Lower-case hex SHA-256 of the bytes; callers fingerprint URLs and files with it. */
+    public static String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE is required to ship SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header allows gzip: listed as
+     * {@code gzip} or {@code x-gzip}, or covered by {@code *}, with a non-zero
+     * q-value. An explicit {@code gzip;q=0} wins over {@code *}.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        double wildcard = -1;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] params = entry.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(params);
+            if ("gzip".equals(coding) || "x-gzip".equals(coding)) {
+                return quality > 0;
+            }
+            if ("*".equals(coding)) {
+                wildcard = quality;
+            }
+        }
+        return wildcard > 0;
+    }
+
+    private static double quality(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    // A malformed weight is treated as "not acceptable"
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.dividendgoal.catalog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dividendgoal.model.Stock;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class CatalogJsonTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void slimProjectionDropsDescriptionsAndHistory() throws IOException {
+        Stock schd = stock("SCHD", 3.8);
+        schd.setDescription("A long description that pages never needed inline");
+        schd.setDividendHistory(List.of(new Stock.DividendRecord(2024, 2.6)));
+
+        CatalogJson catalog = CatalogJson.of(
+                StockCatalog.of(List.of(schd, stock("O", 5.6))), objectMapper.getFactory());
+
+        JsonNode root = objectMapper.readTree(catalog.json());
+        assertEquals(CatalogJson.FIELDS.size(), root.get("fields").size());
+        assertEquals(2, root.get("stocks").size());
+        JsonNode row = root.get("stocks").get(0);
+        assertEquals("SCHD", row.get(0).asText());
+        assertEquals(3.8, row.get(4).asDouble(), 0);
+        assertFalse(new String(catalog.json()).contains("description"));
+        assertEquals("/api/catalog." + catalog.hash() + ".json", catalog.path());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(catalog.gzip()))) {
+            assertArrayEquals(catalog.json(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void hashFollowsTheContent() {
+        String first = CatalogJson.of(StockCatalog.of(List.of(stock("SCHD", 3.8))), objectMapper.getFactory()).hash();
+        String same = CatalogJson.of(StockCatalog.of(List.of(stock("SCHD", 3.8))), objectMapper.getFactory()).hash();
+        String changed = CatalogJson.of(StockCatalog.of(List.of(stock("SCHD", 3.9))), objectMapper.getFactory()).hash();
+
+        assertEquals(16, first.length());
+        assertEquals(first, same);
+        assertNotEquals(first, changed);
+    }
+
+    private static Stock stock(String ticker, double yield) {
+        Stock stock = new Stock();
+        stock.setTicker(ticker);
+        stock.setName(ticker + " Fund");
+        stock.setSector("ETF");
+        stock.setFrequency("Quarterly");
+        stock.setYield(yield);
+        return stock;
+    }
+}
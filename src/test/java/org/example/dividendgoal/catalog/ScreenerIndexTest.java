@@ -0,0 +1,111 @@
+package org.example.dividendgoal.catalog;
+
+import org.example.dividendgoal.model.Stock;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ScreenerIndexTest {
+
+    private static final String[] RISKS = { "LOW", "MEDIUM", "HIGH", null };
+    private static final String[] SECTORS = { "Technology", "REIT", "Utilities", "Energy", "ETF" };
+    private static final String[] FREQUENCIES = { "QUARTERLY", "MONTHLY" };
+
+    @Test
+    void matchesBruteForceFiltering() {
+        List<Stock> stocks = randomStocks(2_000, 7);
+        StockCatalog catalog = StockCatalog.of(stocks);
+
+        ScreenerQuery query = new ScreenerQuery();
+        query.setRisk(Set.of("low", "MEDIUM"));
+        query.setSector(Set.of("reit", "Utilities"));
+        query.setMinYield(3.3);
+        query.setMaxYield(9.1);
+        query.setMinGrowth(-2.5);
+        query.setMaxPayoutRatio(75.0);
+        query.setCutHistory(false);
+        query.setSize(15);
+        query.setPage(1);
+
+        List<Stock> expected = stocks.stream()
+                .filter(s -> "LOW".equals(s.getRisk()) || "MEDIUM".equals(s.getRisk()))
+                .filter(s -> s.getSector().equals("REIT") || s.getSector().equals("Utilities"))
+                .filter(s -> s.getYield() >= 3.3 && s.getYield() <= 9.1)
+                .filter(s -> s.getDividendGrowth() >= -2.5)
+                .filter(s -> s.getPayoutRatio() > 0 && s.getPayoutRatio() <= 75.0)
+                .filter(s -> !s.isDividendCutHistory())
+                .sorted(Comparator.comparingDouble(Stock::getYield).reversed().thenComparing(Stock::getTicker))
+                .toList();
+
+        ScreenerIndex.Result result = catalog.getScreener().screen(query);
+        assertEquals(expected.size(), result.total());
+        assertEquals(expected.subList(15, 30), result.stocks());
+    }
+
+    @Test
+    void sortsByGrowthAndTicker() {
+        List<Stock> stocks = randomStocks(300, 11);
+        ScreenerIndex screener = StockCatalog.of(stocks).getScreener();
+
+        ScreenerQuery byGrowth = new ScreenerQuery();
+        byGrowth.setFrequency(Set.of("monthly"));
+        byGrowth.setSort("growth");
+        byGrowth.setSize(5);
+        List<Stock> expected = stocks.stream()
+                .filter(s -> s.getFrequency().equals("MONTHLY"))
+                .sorted(Comparator.comparingDouble(Stock::getDividendGrowth).reversed()
+                        .thenComparing(Stock::getTicker))
+                .limit(5)
+                .toList();
+        assertEquals(expected, screener.screen(byGrowth).stocks());
+
+        ScreenerQuery byTicker = new ScreenerQuery();
+        byTicker.setSort("ticker");
+        byTicker.setSize(3);
+        List<Stock> firstTickers = stocks.stream().sorted(Comparator.comparing(Stock::getTicker)).limit(3).toList();
+        assertEquals(firstTickers, screener.screen(byTicker).stocks());
+    }
+
+    @Test
+    void unknownValuesAreRejectedOrMatchNothing() {
+        ScreenerIndex screener = StockCatalog.of(randomStocks(50, 3)).getScreener();
+
+        ScreenerQuery unknownSector = new ScreenerQuery();
+        unknownSector.setSector(Set.of("Crypto"));
+        assertEquals(0, screener.screen(unknownSector).total());
+
+        ScreenerQuery badRisk = new ScreenerQuery();
+        badRisk.setRisk(Set.of("EXTREME"));
+        assertThrows(IllegalArgumentException.class, () -> screener.screen(badRisk));
+
+        ScreenerQuery badSort = new ScreenerQuery();
+        badSort.setSort("random");
+        assertThrows(IllegalArgumentException.class, () -> screener.screen(badSort));
+    }
+
+    private static List<Stock> randomStocks(int count, long seed) {
+        Random random = new Random(seed);
+        List<Stock> stocks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Stock stock = new Stock();
+            stock.setTicker("T" + i);
+            stock.setName("Stock " + i);
+            stock.setRisk(RISKS[random.nextInt(RISKS.length)]);
+            stock.setSector(SECTORS[random.nextInt(SECTORS.length)]);
+            stock.setFrequency(FREQUENCIES[random.nextInt(FREQUENCIES.length)]);
+            stock.setYield(Math.round(random.nextDouble() * 1500) / 100.0);
+            stock.setDividendGrowth(Math.round((random.nextDouble() * 40 - 15) * 10) / 10.0);
+            stock.setPayoutRatio(random.nextInt(4) == 0 ? 0 : Math.round(random.nextDouble() * 1200) / 10.0);
+            stock.setDividendCutHistory(random.nextInt(5) == 0);
+            stocks.add(stock);
+        }
+        return stocks;
+    }
+}
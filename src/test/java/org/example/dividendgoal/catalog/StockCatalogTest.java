@@ -0,0 +1,151 @@
+package org.example.dividendgoal.catalog;
+
+import org.example.dividendgoal.model.Stock;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StockCatalogTest {
+
+    @Test
+    void lookupIsCaseInsensitiveAndFirstRecordWins() {
+        Stock schd = stock("SCHD", "Dividend Equity ETF", 3.8, 11.0, "LOW");
+        Stock duplicate = stock("schd", "Dividend Equity ETF", 9.9, 0.0, "HIGH");
+        StockCatalog catalog = StockCatalog.of(List.of(schd, duplicate));
+
+        assertEquals(1, catalog.size());
+        assertSame(schd, catalog.find(" schd ").orElseThrow());
+        assertEquals(0, catalog.ordinalOf("Schd"));
+        assertEquals(-1, catalog.ordinalOf("NOPE"));
+        assertTrue(catalog.find(null).isEmpty());
+    }
+
+    @Test
+    void presortedViewsAndSectorIndex() {
+        Stock ko = stock("KO", "Consumer Staples", 3.1, 4.5, "LOW");
+        Stock pep = stock("PEP", "consumer staples", 3.4, 7.0, "LOW");
+        Stock abr = stock("ABR", "Mortgage REIT", 12.5, 5.0, "HIGH");
+        Stock jepi = stock("JEPI", "Covered Call ETF", 7.5, 0.0, "MEDIUM");
+        StockCatalog catalog = StockCatalog.of(List.of(ko, pep, abr, jepi));
+
+        assertEquals(List.of(abr, jepi, pep, ko), catalog.getStocksByYield());
+        assertEquals(List.of(pep, abr, ko, jepi), catalog.getStocksByDividendGrowth());
+        assertEquals(List.of(pep, ko, jepi, abr), catalog.getStocksByRisk());
+        assertEquals(List.of(ko, pep), catalog.getSectorStocks("Consumer Staples"));
+        assertTrue(catalog.getSectorStocks(null).isEmpty());
+        assertEquals(List.of("KO", "PEP", "ABR", "JEPI"), catalog.getTickers());
+    }
+
+    @Test
+    void metricColumnsFollowCatalogOrdinals() {
+        Stock ko = stock("KO", "Consumer Staples", 3.1, 4.5, "LOW");
+        Stock pep = stock("PEP", "consumer staples", 3.4, 7.0, "medium");
+        Stock abr = stock("ABR", "Mortgage REIT", 12.5, 5.0, null);
+        StockMetrics metrics = StockCatalog.of(List.of(ko, pep, abr)).getMetrics();
+
+        assertEquals(3, metrics.size());
+        assertEquals(12.5, metrics.yield(2), 1e-9);
+        assertEquals(StockMetrics.RISK_MEDIUM, metrics.riskCode(1));
+        assertEquals(StockMetrics.NONE, metrics.riskCode(2));
+        assertEquals(metrics.sectorCode(0), metrics.sectorCode(1));
+        assertEquals(metrics.sectorCode(0), metrics.sectorCodeOf(" CONSUMER STAPLES"));
+        assertEquals("Consumer Staples", metrics.sectorName(metrics.sectorCode(0)));
+        assertEquals(2, metrics.sectorCount());
+        assertEquals(StockMetrics.NONE, metrics.sectorCodeOf("Utilities"));
+        assertEquals(2, metrics.rankedByYield(0));
+        assertEquals(1, metrics.rankedByDividendGrowth(0));
+
+        assertEquals(1.0, metrics.growthFactor(1, 0), 1e-12);
+        for (int years = 1; years <= StockMetrics.MAX_GROWTH_YEARS; years++) {
+            assertEquals(Math.pow(1.07, years), metrics.growthFactor(1, years), 1e-9 * Math.pow(1.07, years));
+        }
+    }
+
+    @Test
+    void neighborsAreNearestSectorYieldsThenStableBackfill() {
+        Stock o = stock("O", "REIT", 5.5, 3.0, "LOW");
+        Stock vici = stock("VICI", "REIT", 5.0, 6.0, "LOW");
+        Stock ohi = stock("OHI", "REIT", 8.0, 1.0, "MEDIUM");
+        Stock pld = stock("PLD", "REIT", 3.0, 10.0, "LOW");
+        Stock abr = stock("ABR", "Mortgage REIT", 12.5, 5.0, "HIGH");
+        Stock jepi = stock("JEPI", "Covered Call ETF", 7.5, 0.0, "MEDIUM");
+        Stock msft = stock("MSFT", "Technology", 0.7, 10.0, "LOW");
+        StockCatalog catalog = StockCatalog.of(List.of(o, vici, ohi, pld, abr, jepi, msft));
+        SimilarStocksIndex similar = catalog.getSimilarStocks();
+
+        assertEquals(List.of(vici, pld, ohi), similar.neighborsOf(catalog.ordinalOf("O"), 3));
+        // Only sector peer is missing: backfill from yields above 3%, never itself or a repeat
+        List<Stock> abrNeighbors = similar.neighborsOf(catalog.ordinalOf("ABR"), 10);
+        assertEquals(4, abrNeighbors.size());
+        assertTrue(!abrNeighbors.contains(abr) && !abrNeighbors.contains(pld) && !abrNeighbors.contains(msft));
+        assertEquals(abrNeighbors, StockCatalog.of(List.of(o, vici, ohi, pld, abr, jepi, msft))
+                .getSimilarStocks().neighborsOf(catalog.ordinalOf("ABR"), 10));
+        assertEquals(abrNeighbors.subList(0, 2), similar.neighborsOf(catalog.ordinalOf("ABR"), 2));
+    }
+
+    @Test
+    void dividendHistoryGrowthIsARatioOfPrefixProducts() {
+        Stock ko = stock("KO", "Consumer Staples", 3.0, 5.0, "LOW");
+        // Unsorted, with 2019 missing: it carries 2018 forward
+        ko.setDividendHistory(List.of(
+                new Stock.DividendRecord(2020, 1.64),
+                new Stock.DividendRecord(2016, 1.40),
+                new Stock.DividendRecord(2017, 1.48),
+                new Stock.DividendRecord(2018, 1.56)));
+        Stock late = stock("LATE", "Technology", 1.0, 0.0, "HIGH");
+        late.setDividendHistory(List.of(new Stock.DividendRecord(2015, 0), new Stock.DividendRecord(2016, 0.5),
+                new Stock.DividendRecord(2017, 0.6)));
+        Stock none = stock("NONE", "Technology", 0.0, 0.0, "HIGH");
+        DividendHistoryIndex history = StockCatalog.of(List.of(ko, late, none)).getDividendHistory();
+
+        assertEquals(2016, history.firstYear(0));
+        assertEquals(2020, history.lastYear(0));
+        assertEquals(1.64 / 1.40, history.growth(0, 2016, 2020), 1e-12);
+        assertEquals(1.0, history.growth(0, 2018, 2019), 1e-12);
+        assertEquals(1.40 / 1.56, history.growth(0, 2018, 2016), 1e-12);
+        assertTrue(Double.isNaN(history.growth(0, 2015, 2020)));
+        assertTrue(Double.isNaN(history.growth(0, 2016, 2021)));
+
+        // Nothing paid in 2015, so it cannot be a starting year
+        assertTrue(Double.isNaN(history.growth(1, 2015, 2017)));
+        assertEquals(1.2, history.growth(1, 2016, 2017), 1e-12);
+
+        assertFalse(history.hasHistory(2));
+        assertTrue(Double.isNaN(history.growth(2, 2016, 2017)));
+    }
+
+    @Test
+    void dividendYearsOutsideTheWindowAreIgnoredInsteadOfFailingTheCatalog() {
+        Stock typo = stock("TYPO", "Utilities", 3.0, 2.0, "LOW");
+        // A missing year (0), a five-digit year and an extreme int around two real years
+        typo.setDividendHistory(List.of(new Stock.DividendRecord(0, 1.0), new Stock.DividendRecord(2023, 1.0),
+                new Stock.DividendRecord(20240, 9.0), new Stock.DividendRecord(2024, 1.1),
+                new Stock.DividendRecord(Integer.MAX_VALUE, 9.0)));
+        Stock bogus = stock("BOGUS", "Utilities", 3.0, 2.0, "LOW");
+        bogus.setDividendHistory(List.of(new Stock.DividendRecord(Integer.MIN_VALUE, 1.0),
+                new Stock.DividendRecord(Integer.MAX_VALUE, 2.0)));
+
+        DividendHistoryIndex history = StockCatalog.of(List.of(typo, bogus)).getDividendHistory();
+
+        assertEquals(2023, history.firstYear(0));
+        assertEquals(2024, history.lastYear(0));
+        assertEquals(1.1, history.growth(0, 2023, 2024), 1e-12);
+        assertFalse(history.hasHistory(1));
+    }
+
+    private static Stock stock(String ticker, String sector, double yield, double growth, String risk) {
+        Stock stock = new Stock();
+        stock.setTicker(ticker);
+        stock.setName(ticker + " Inc.");
+        stock.setSector(sector);
+        stock.setYield(yield);
+        stock.setDividendGrowth(growth);
+        stock.setRisk(risk);
+        return stock;
+    }
+}
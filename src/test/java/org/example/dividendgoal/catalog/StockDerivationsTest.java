@@ -0,0 +1,119 @@
+package org.example.dividendgoal.catalog;
+
+import org.example.dividendgoal.model.Stock;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StockDerivationsTest {
+
+    @Test
+    void sectorMedianFillsOnlyMissingValuesAndNeedsEnoughPeers() {
+        Stock a = stock("A", "REIT", 4.0);
+        Stock b = stock("B", "reit ", 6.0);
+        Stock c = stock("C", "REIT", 5.0);
+        Stock d = stock("D", "REIT", 9.0);
+        d.setSectorMedianYield(4.2);
+        Stock zero = stock("Z", "REIT", 0.0);
+        Stock lonely = stock("L", "Utilities", 3.0);
+        Stock noSector = stock("N", null, 3.0);
+
+        StockDerivations.Summary summary = StockDerivations.apply(List.of(a, b, c, d, zero, lonely, noSector));
+
+        // Positive REIT yields 4, 5, 6, 9: the median is 5.5 for everyone who did not report one
+        assertEquals(5.5, a.getSectorMedianYield(), 1e-12);
+        assertEquals(Stock.Source.DERIVED, a.getSectorMedianYieldSource());
+        assertEquals(5.5, zero.getSectorMedianYield(), 1e-12);
+        assertEquals(4.2, d.getSectorMedianYield(), 1e-12);
+        assertEquals(Stock.Source.REPORTED, d.getSectorMedianYieldSource());
+        assertEquals(0, lonely.getSectorMedianYield(), 0);
+        assertEquals(Stock.Source.MISSING, lonely.getSectorMedianYieldSource());
+        assertEquals(Stock.Source.MISSING, noSector.getSectorMedianYieldSource());
+        assertEquals(4, summary.sectorMedians());
+    }
+
+    @Test
+    void medianMatchesSortingForOddAndEvenCounts() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int count = 1; count <= 60; count++) {
+            double[] values = new double[count + 4];
+            for (int i = 0; i < values.length; i++) {
+                // Few distinct values so ties are exercised
+                values[i] = random.nextInt(10) / 2.0;
+            }
+            double[] sorted = Arrays.copyOfRange(values, 2, 2 + count);
+            Arrays.sort(sorted);
+            double expected = count % 2 == 1 ? sorted[count / 2] : (sorted[count / 2 - 1] + sorted[count / 2]) / 2;
+            assertEquals(expected, StockDerivations.median(values, 2, 2 + count), 0, "count " + count);
+        }
+    }
+
+    @Test
+    void historyYieldsCagrStreakAndCutFlag() {
+        Stock ko = stock("KO", "Staples", 3.0);
+        // Unsorted on purpose; 2019 was a cut, then three straight raises
+        ko.setDividendHistory(history(2022, 1.76, 2017, 1.48, 2018, 1.56, 2019, 1.50, 2020, 1.64, 2021, 1.68));
+        Stock reported = stock("PG", "Staples", 2.5);
+        reported.setDividendGrowth(5.0);
+        reported.setConsecutiveGrowthYears(68);
+        reported.setDividendHistory(history(2021, 3.2, 2022, 3.0));
+        Stock bare = stock("NEW", "Staples", 1.0);
+
+        StockDerivations.Summary summary = StockDerivations.apply(List.of(ko, reported, bare));
+
+        double cagr = (Math.pow(1.76 / 1.48, 1 / 5.0) - 1) * 100;
+        assertEquals(Math.round(cagr * 100) / 100.0, ko.getDividendGrowth(), 1e-12);
+        assertEquals(Stock.Source.DERIVED, ko.getDividendGrowthSource());
+        assertEquals(3, ko.getConsecutiveGrowthYears());
+        assertTrue(ko.isDividendCutHistory());
+        assertEquals(Stock.Source.DERIVED, ko.getDividendCutHistorySource());
+
+        assertEquals(5.0, reported.getDividendGrowth(), 0);
+        assertEquals(Stock.Source.REPORTED, reported.getDividendGrowthSource());
+        assertEquals(68, reported.getConsecutiveGrowthYears());
+        assertEquals(Stock.Source.REPORTED, reported.getConsecutiveGrowthYearsSource());
+        // Omitted flag plus a visible cut in the history
+        assertTrue(reported.isDividendCutHistory());
+
+        assertEquals(Stock.Source.MISSING, bare.getDividendGrowthSource());
+        assertEquals(Stock.Source.MISSING, bare.getConsecutiveGrowthYearsSource());
+        assertFalse(bare.isDividendCutHistory());
+        assertEquals(Stock.Source.MISSING, bare.getDividendCutHistorySource());
+
+        assertEquals(new StockDerivations.Summary(3, 1, 1, 2), summary);
+    }
+
+    @Test
+    void gapInHistoryEndsTheStreakAndLeadingZerosAreSkipped() {
+        Stock.DividendRecord[] records = history(2015, 0.0, 2016, 1.0, 2017, 1.1, 2019, 1.2, 2020, 1.3)
+                .toArray(new Stock.DividendRecord[0]);
+
+        assertEquals(1, StockDerivations.growthStreak(records));
+        assertEquals((Math.pow(1.3, 1 / 4.0) - 1) * 100, StockDerivations.cagr(records), 1e-9);
+        assertFalse(StockDerivations.hasCut(records));
+    }
+
+    private static List<Stock.DividendRecord> history(double... yearThenDividend) {
+        List<Stock.DividendRecord> history = new ArrayList<>();
+        for (int i = 0; i < yearThenDividend.length; i += 2) {
+            history.add(new Stock.DividendRecord((int) yearThenDividend[i], yearThenDividend[i + 1]));
+        }
+        return history;
+    }
+
+    private static Stock stock(String ticker, String sector, double yield) {
+        Stock stock = new Stock();
+        stock.setTicker(ticker);
+        stock.setName(ticker);
+        stock.setSector(sector);
+        stock.setYield(yield);
+        return stock;
+    }
+}
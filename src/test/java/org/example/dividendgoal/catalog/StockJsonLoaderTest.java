@@ -0,0 +1,116 @@
+package org.example.dividendgoal.catalog;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.example.dividendgoal.model.Stock;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StockJsonLoaderTest {
+
+    @Test
+    void readsRecordsAndSkipsInvalidOnesWithoutLosingPosition() throws IOException {
+        String json = """
+                [
+                  {"ticker": "KO", "name": "Coca-Cola", "yield": 3.1, "sector": "Consumer Staples",
+                   "dividendHistory": [{"year": 2025, "dividendPerShare": 1.94}, {"year": 2024, "dividendPerShare": 1.84}],
+                   "unknownField": {"nested": [1, 2, 3]}},
+                  {"ticker": "BAD", "name": "Broken", "yield": "n/a"},
+                  {"ticker": "HIST", "name": "Bad History", "yield": 2.0,
+                   "dividendHistory": [{"year": "soon", "dividendPerShare": 1.0}, {"year": 2024}]},
+                  {"ticker": "ko", "name": "Duplicate", "yield": 1.0},
+                  {"ticker": "PEP", "name": "PepsiCo", "yield": "3.4", "sector": "Consumer Staples", "risk": null}
+                ]
+                """;
+
+        StockJsonLoader loader = new StockJsonLoader(new JsonFactory());
+        loader.read(stream(json), "stocks.json");
+
+        assertEquals(2, loader.getStocks().size());
+        Stock ko = loader.getStocks().get(0);
+        assertEquals("KO", ko.getTicker());
+        assertEquals(2, ko.getDividendHistory().size());
+        assertEquals(1.84, ko.getDividendHistory().get(1).getDividendPerShare(), 1e-9);
+        assertEquals(3.4, loader.getStocks().get(1).getYield(), 1e-9);
+        // Shared instance for repeated categorical values
+        assertTrue(ko.getSector() == loader.getStocks().get(1).getSector());
+
+        assertEquals(3, loader.getRejectedRecords());
+        assertTrue(loader.getErrors().get(0).startsWith("stocks.json#1 (BAD): yield"));
+        assertTrue(loader.getErrors().get(1).startsWith("stocks.json#2 (HIST): dividendHistory"));
+        assertTrue(loader.getErrors().get(2).contains("duplicate ticker"));
+    }
+
+    @Test
+    void duplicatesAreDetectedAcrossShards() throws IOException {
+        StockJsonLoader loader = new StockJsonLoader(new JsonFactory());
+        loader.read(stream("[{\"ticker\": \"O\", \"name\": \"Realty Income\", \"yield\": 5.5}]"), "stocks.json");
+        loader.read(stream("[{\"ticker\": \"O\", \"name\": \"Again\", \"yield\": 5.5}]"), "stocks-2.json");
+
+        assertEquals(1, loader.getStocks().size());
+        assertEquals(1, loader.getRejectedRecords());
+    }
+
+    @Test
+    void outOfRangeIntegersRejectOnlyTheirRecordAndWholeFloatsAreAccepted() throws IOException {
+        String json = """
+                [
+                  {"ticker": "BIG", "name": "Overflow", "yield": 1.0, "dividendYears": 99999999999},
+                  {"ticker": "FRAC", "name": "Fraction", "yield": 1.0, "consecutiveGrowthYears": 2.5},
+                  {"ticker": "KO", "name": "Coca-Cola", "yield": 3.1, "dividendYears": 62.0,
+                   "dividendHistory": [{"year": 2025.0, "dividendPerShare": 1.94}]}
+                ]
+                """;
+
+        StockJsonLoader loader = new StockJsonLoader(new JsonFactory());
+        loader.read(stream(json), "stocks.json");
+
+        assertEquals(1, loader.getStocks().size());
+        Stock ko = loader.getStocks().get(0);
+        assertEquals(62, ko.getDividendYears());
+        assertEquals(2025, ko.getDividendHistory().get(0).getYear());
+        assertEquals(2, loader.getRejectedRecords());
+        assertTrue(loader.getErrors().get(0).startsWith("stocks.json#0 (BIG): dividendYears"));
+        assertTrue(loader.getErrors().get(1).startsWith("stocks.json#1 (FRAC): consecutiveGrowthYears"));
+    }
+
+    @Test
+    void dividendHistoryYearsOutsideTheWindowRejectTheRecord() throws IOException {
+        String json = """
+                [
+                  {"ticker": "NOYEAR", "name": "Missing Year", "yield": 1.0,
+                   "dividendHistory": [{"dividendPerShare": 1.0}]},
+                  {"ticker": "TYPO", "name": "Typo Year", "yield": 1.0,
+                   "dividendHistory": [{"year": 20240, "dividendPerShare": 1.0}]},
+                  {"ticker": "KO", "name": "Coca-Cola", "yield": 3.1,
+                   "dividendHistory": [{"year": 1920, "dividendPerShare": 0.1}]}
+                ]
+                """;
+
+        StockJsonLoader loader = new StockJsonLoader(new JsonFactory());
+        loader.read(stream(json), "stocks.json");
+
+        assertEquals(1, loader.getStocks().size());
+        assertEquals(2, loader.getRejectedRecords());
+        assertTrue(loader.getErrors().get(0).endsWith("(NOYEAR): dividendHistory year out of range (0)"));
+        assertTrue(loader.getErrors().get(1).endsWith("(TYPO): dividendHistory year out of range (20240)"));
+    }
+
+    @Test
+    void structurallyBrokenSourceFails() {
+        StockJsonLoader loader = new StockJsonLoader(new JsonFactory());
+        assertThrows(IOException.class, () -> loader.read(stream("{\"ticker\": \"KO\"}"), "stocks.json"));
+        assertThrows(IOException.class, () -> loader.read(stream("[{\"ticker\": \"KO\""), "stocks.json"));
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
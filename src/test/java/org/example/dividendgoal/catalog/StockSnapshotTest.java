@@ -0,0 +1,70 @@
+package org.example.dividendgoal.catalog;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.example.dividendgoal.model.Stock;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StockSnapshotTest {
+
+    @Test
+    void roundTripOfBundledDatasetKeepsCatalogVersion() throws IOException {
+        StockJsonLoader loader = new StockJsonLoader(new JsonFactory());
+        try (InputStream in = getClass().getResourceAsStream("/data/stocks.json")) {
+            loader.read(in, "stocks.json");
+        }
+        List<Stock> restored = roundTrip(loader.getStocks());
+
+        assertEquals(loader.getStocks().size(), restored.size());
+        // The version fingerprints every field, so equal versions mean an exact round trip
+        assertEquals(StockCatalog.of(loader.getStocks()).getVersion(), StockCatalog.of(restored).getVersion());
+    }
+
+    @Test
+    void keepsNullsAndMissingHistory() throws IOException {
+        Stock stock = new Stock();
+        stock.setTicker("ZZZ");
+        stock.setName("Sparse");
+        stock.setYield(1.5);
+
+        Stock restored = roundTrip(List.of(stock)).get(0);
+
+        assertEquals("ZZZ", restored.getTicker());
+        assertNull(restored.getSector());
+        assertNull(restored.getDividendHistory());
+    }
+
+    @Test
+    void rejectsForeignAndTruncatedInput() throws IOException {
+        assertThrows(IOException.class, () -> StockSnapshot.read(ByteBuffer.wrap("[{}]".getBytes())));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StockSnapshot.write(List.of(sample()), out);
+        byte[] bytes = out.toByteArray();
+        assertThrows(IOException.class, () -> StockSnapshot.read(ByteBuffer.wrap(bytes, 0, bytes.length / 2).slice()));
+    }
+
+    private static List<Stock> roundTrip(List<Stock> stocks) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StockSnapshot.write(stocks, out);
+        return StockSnapshot.read(ByteBuffer.wrap(out.toByteArray()));
+    }
+
+    private static Stock sample() {
+        Stock stock = new Stock();
+        stock.setTicker("KO");
+        stock.setName("Coca-Cola");
+        stock.setSector("Consumer Staples");
+        stock.setDividendHistory(List.of(new Stock.DividendRecord(2025, 1.94)));
+        return stock;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.dividendgoal.catalog;
+
+import org.example.dividendgoal.model.Stock;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TickerSuggestIndexTest {
+
+    private final TickerSuggestIndex index = StockCatalog.of(List.of(
+            stock("OKE", "ONEOK Inc."),
+            stock("O", "Realty Income"),
+            stock("OHI", "Omega Healthcare Investors"),
+            stock("KO", "Coca-Cola"),
+            stock("SCHD", "Schwab US Dividend Equity ETF"))).getSuggestIndex();
+
+    @Test
+    void exactTickerFirstThenTickerPrefixesThenNameWords() {
+        assertEquals(List.of("O", "OHI", "OKE"), tickers(index.suggest("o", 10)));
+        assertEquals(List.of("O", "OHI"), tickers(index.suggest(" o ", 2)));
+        // "inc" matches the "Inc." word of ONEOK and the "Income" word of Realty Income
+        assertEquals(List.of("OKE", "O"), tickers(index.suggest("inc", 10)));
+        assertEquals(List.of("KO"), tickers(index.suggest("cola", 10)));
+    }
+
+    @Test
+    void stockIsSuggestedOnceAndUnknownPrefixesAreEmpty() {
+        // SCHD matches both by ticker and by the "Schwab" word
+        assertEquals(List.of("SCHD"), tickers(index.suggest("sch", 10)));
+        assertTrue(index.suggest("zzz", 10).isEmpty());
+        assertTrue(index.suggest("", 10).isEmpty());
+        assertTrue(index.suggest(null, 10).isEmpty());
+    }
+
+    private static List<String> tickers(List<Stock> stocks) {
+        return stocks.stream().map(Stock::getTicker).toList();
+    }
+
+    private static Stock stock(String ticker, String name) {
+        Stock stock = new Stock();
+        stock.setTicker(ticker);
+        stock.setName(name);
+        return stock;
+    }
+}
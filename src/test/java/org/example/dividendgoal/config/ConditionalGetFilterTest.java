@@ -0,0 +1,199 @@
+package org.example.dividendgoal.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.dividendgoal.service.LifestyleService;
+import org.example.dividendgoal.service.StockDataService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConditionalGetFilterTest {
+
+    private static final String PATH = "/how-much-dividend/1000-per-month/SCHD";
+
+    @TempDir
+    Path dataDir;
+
+    private StockDataService stockDataService;
+    private ConditionalGetFilter filter;
+    private final AtomicInteger rendered = new AtomicInteger();
+
+    // Stands in for a controller: counts renders and sends the usual first-of-month Last-Modified
+    private final FilterChain controller = (request, response) -> {
+        rendered.incrementAndGet();
+        ((HttpServletResponse) response).setDateHeader("Last-Modified",
+                ConditionalGetFilter.firstDayOfMonthMillis(YearMonth.now()));
+    };
+
+    @BeforeEach
+    void loadCatalog() throws IOException {
+        writeStocks(3.8);
+        stockDataService = new StockDataService(new ObjectMapper(), new ConcurrentMapCacheManager(),
+                dataDir.resolve("stocks.json").toString(), "", false);
+        stockDataService.loadStocks();
+        filter = new ConditionalGetFilter(stockDataService, new LifestyleService());
+    }
+
+    @AfterEach
+    void stopReloads() {
+        stockDataService.shutdown();
+    }
+
+    @Test
+    void etagChangesWithDatasetMonthAndPath() {
+        YearMonth month = YearMonth.of(2026, 3);
+        String etag = ConditionalGetFilter.etag(PATH, "abc123", month);
+
+        assertTrue(etag.startsWith("W/\"abc123-202603-"));
+        assertEquals(etag, ConditionalGetFilter.etag(PATH, "abc123", month));
+        assertNotEquals(etag, ConditionalGetFilter.etag(PATH, "def456", month));
+        assertNotEquals(etag, ConditionalGetFilter.etag(PATH, "abc123", month.plusMonths(1)));
+        assertNotEquals(etag, ConditionalGetFilter.etag("/compare/O-vs-SCHD", "abc123", month));
+    }
+
+    @Test
+    void ifNoneMatchUsesWeakComparisonOverAList() {
+        String etag = ConditionalGetFilter.etag(PATH, "abc123", YearMonth.of(2026, 3));
+        String strongForm = etag.substring(2);
+
+        assertTrue(ConditionalGetFilter.matches(etag, etag));
+        assertTrue(ConditionalGetFilter.matches(strongForm, etag));
+        assertTrue(ConditionalGetFilter.matches("\"other\", " + etag, etag));
+        assertTrue(ConditionalGetFilter.matches("*", etag));
+        assertFalse(ConditionalGetFilter.matches("W/\"abc123-202602-0\"", etag));
+    }
+
+    @Test
+    void lastModifiedMatchesWhatTheControllersSend() {
+        YearMonth month = YearMonth.of(2026, 3);
+        long controllers = Timestamp.valueOf(month.atDay(1).atStartOfDay()).getTime();
+
+        assertEquals(controllers, ConditionalGetFilter.firstDayOfMonthMillis(month));
+    }
+
+    @Test
+    void revalidationOfAnExistingPageIsAnsweredWith304() throws Exception {
+        MockHttpServletRequest request = get(PATH);
+        request.addHeader("If-Modified-Since", stockDataService.getCatalogPublishedAt() + 1000);
+
+        MockHttpServletResponse response = run(request);
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+        assertEquals(0, rendered.get());
+        assertEquals(response.getHeader("ETag"), etagOf(PATH));
+    }
+
+    @Test
+    void pageIsRenderedWhenTheDataChangedAfterTheClientsCopy() throws Exception {
+        // What the pages used to send: only the first of the month, not the mid-month load
+        MockHttpServletRequest request = get(PATH);
+        request.addHeader("If-Modified-Since", ConditionalGetFilter.firstDayOfMonthMillis(YearMonth.now()));
+
+        MockHttpServletResponse response = run(request);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(1, rendered.get());
+        // The controller's Last-Modified is raised to the publish time, so the next revalidation can match
+        assertEquals(stockDataService.getCatalogPublishedAt() / 1000, response.getDateHeader("Last-Modified") / 1000);
+    }
+
+    @Test
+    void reloadMidMonthInvalidatesBothValidators() throws Exception {
+        MockHttpServletResponse first = run(get(PATH));
+        String etag = first.getHeader("ETag");
+        long lastModified = first.getDateHeader("Last-Modified");
+
+        // Publish times are compared in seconds
+        Thread.sleep(1100);
+        writeStocks(3.9);
+        assertTrue(stockDataService.reloadStocks().get().applied());
+
+        MockHttpServletRequest byEtag = get(PATH);
+        byEtag.addHeader("If-None-Match", etag);
+        MockHttpServletRequest byDate = get(PATH);
+        byDate.addHeader("If-Modified-Since", lastModified);
+
+        assertEquals(HttpServletResponse.SC_OK, run(byEtag).getStatus());
+        assertEquals(HttpServletResponse.SC_OK, run(byDate).getStatus());
+        assertEquals(3, rendered.get());
+    }
+
+    @Test
+    void unknownTickersAndNonCanonicalUrlsAreNeverAnsweredWith304() throws Exception {
+        for (String path : new String[] {
+                "/how-much-dividend/1000-per-month/NOPE", // 404 in the controller
+                "/how-much-dividend/1000-per-month/schd", // not the catalog spelling
+                "/how-much-dividend/abc-per-month/SCHD", // 400
+                "/compare/PEP-vs-KO", // 308 to /compare/KO-vs-PEP
+                "/compare/KO-vs-KO", // 308 to the calculator
+                "/compare/KO-vs-NOPE", // 404
+                "/lifestyle/cost-of-netflix-premium-vs-SCHD-dividend", // 410, off the SEO surface
+                "/lifestyle/pay-for-netflix-premium" }) {
+            MockHttpServletRequest request = get(path);
+            request.addHeader("If-None-Match", "*");
+            request.addHeader("If-Modified-Since", System.currentTimeMillis() + 60_000);
+
+            MockHttpServletResponse response = run(request);
+
+            assertEquals(HttpServletResponse.SC_OK, response.getStatus(), path);
+            assertNull(response.getHeader("ETag"), path);
+        }
+        assertEquals(8, rendered.get());
+    }
+
+    @Test
+    void canonicalComparisonMatchesItsEtag() throws Exception {
+        String path = "/compare/KO-vs-PEP";
+        MockHttpServletRequest request = get(path);
+        request.addHeader("If-None-Match", etagOf(path));
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, run(request).getStatus());
+        assertEquals(0, rendered.get());
+        assertEquals(1, filter.stats().notModifiedByEtag());
+    }
+
+    private String etagOf(String path) {
+        return ConditionalGetFilter.etag(path, stockDataService.getCatalog().getVersion(), YearMonth.now());
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, controller);
+        return response;
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+
+    private void writeStocks(double schdYield) throws IOException {
+        Files.writeString(dataDir.resolve("stocks.json"), """
+                [
+                  {"ticker": "SCHD", "name": "Schwab US Dividend Equity ETF", "yield": %s, "sector": "ETF"},
+                  {"ticker": "KO", "name": "Coca-Cola", "yield": 3.0, "sector": "Consumer Staples"},
+                  {"ticker": "PEP", "name": "PepsiCo", "yield": 3.4, "sector": "Consumer Staples"}
+                ]
+                """.formatted(schdYield));
+    }
+}
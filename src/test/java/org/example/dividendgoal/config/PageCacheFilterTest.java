@@ -0,0 +1,183 @@
+package org.example.dividendgoal.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.dividendgoal.service.StockDataService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PageCacheFilterTest {
+
+    private static final String PATH = "/how-much-dividend/1000-per-month/SCHD";
+    private static final long LAST_MODIFIED = 1_767_225_600_000L; // 2026-01-01
+
+    @TempDir
+    Path dataDir;
+
+    private StockDataService stockDataService;
+    private PageCacheFilter filter;
+    private final AtomicInteger rendered = new AtomicInteger();
+    private int status = HttpServletResponse.SC_OK;
+    private String cookie;
+
+    // Stands in for a controller rendering an HTML page, counting renders
+    private final FilterChain controller = (request, response) -> {
+        HttpServletResponse http = (HttpServletResponse) response;
+        int render = rendered.incrementAndGet();
+        http.setStatus(status);
+        http.setContentType("text/html;charset=UTF-8");
+        http.setHeader("Cache-Control", "public, max-age=300");
+        http.setDateHeader("Last-Modified", LAST_MODIFIED);
+        http.setHeader("X-Robots-Tag", "noindex, follow");
+        if (cookie != null) {
+            http.setHeader("Set-Cookie", cookie);
+        }
+        http.getOutputStream().write(page(render).getBytes(StandardCharsets.UTF_8));
+    };
+
+    @BeforeEach
+    void loadCatalog() throws IOException {
+        writeStocks(3.8);
+        stockDataService = new StockDataService(new ObjectMapper(), new ConcurrentMapCacheManager(),
+                dataDir.resolve("stocks.json").toString(), "", false);
+        stockDataService.loadStocks();
+        filter = new PageCacheFilter(stockDataService, true, 0);
+    }
+
+    @AfterEach
+    void stopReloads() {
+        stockDataService.shutdown();
+    }
+
+    @Test
+    void onlyCanonicalSsrRoutesAreCached() {
+        assertTrue(PageCacheFilter.isCachedRoute("/how-much-dividend/1000-per-month/SCHD"));
+        assertTrue(PageCacheFilter.isCachedRoute("/compare/O-vs-SCHD"));
+        assertTrue(PageCacheFilter.isCachedRoute("/lifestyle/pay-for-netflix"));
+        assertFalse(PageCacheFilter.isCachedRoute("/api/calculator/grid"));
+        assertFalse(PageCacheFilter.isCachedRoute("/portfolio"));
+        assertFalse(PageCacheFilter.isCachedRoute("/"));
+    }
+
+    @Test
+    void defaultBudgetIsAShareOfTheHeap() {
+        long mb = 1024 * 1024;
+        assertEquals(16 * mb, PageCacheFilter.budget(0, 256 * mb));
+        assertEquals(PageCacheFilter.MAX_DEFAULT_BYTES, PageCacheFilter.budget(0, 4096 * mb));
+        assertEquals(PageCacheFilter.MAX_DEFAULT_BYTES, PageCacheFilter.budget(0, Long.MAX_VALUE));
+        assertEquals(8 * mb, PageCacheFilter.budget(8 * mb, 256 * mb));
+    }
+
+    @Test
+    void secondRequestIsReplayedWithTheControllerHeaders() throws Exception {
+        MockHttpServletResponse miss = run(get(PATH));
+        MockHttpServletResponse hit = run(get(PATH));
+
+        assertEquals(1, rendered.get());
+        assertEquals("MISS", miss.getHeader(PageCacheFilter.CACHE_HEADER));
+        assertEquals("HIT", hit.getHeader(PageCacheFilter.CACHE_HEADER));
+        assertEquals(page(1), hit.getContentAsString());
+        assertEquals(HttpServletResponse.SC_OK, hit.getStatus());
+        assertEquals("text/html;charset=UTF-8", hit.getContentType());
+        assertEquals("public, max-age=300", hit.getHeader("Cache-Control"));
+        assertEquals(LAST_MODIFIED, hit.getDateHeader("Last-Modified"));
+        assertEquals("noindex, follow", hit.getHeader("X-Robots-Tag"));
+        assertEquals("Accept-Encoding", hit.getHeader("Vary"));
+        assertNull(hit.getHeader("Content-Encoding"));
+    }
+
+    @Test
+    void hitsNegotiateGzipFromAcceptEncoding() throws Exception {
+        run(get(PATH));
+
+        MockHttpServletRequest gzipRequest = get(PATH);
+        gzipRequest.addHeader("Accept-Encoding", "br, gzip");
+        MockHttpServletResponse gzip = run(gzipRequest);
+        assertEquals("gzip", gzip.getHeader("Content-Encoding"));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray()))) {
+            assertEquals(page(1), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        MockHttpServletRequest refused = get(PATH);
+        refused.addHeader("Accept-Encoding", "gzip;q=0, identity");
+        MockHttpServletResponse raw = run(refused);
+        assertNull(raw.getHeader("Content-Encoding"));
+        assertEquals(page(1), raw.getContentAsString());
+        assertEquals(1, rendered.get());
+    }
+
+    @Test
+    void errorsCookiesAndQueryStringsAreNeverStored() throws Exception {
+        status = HttpServletResponse.SC_NOT_FOUND;
+        run(get(PATH));
+        MockHttpServletResponse notFound = run(get(PATH));
+        assertNull(notFound.getHeader(PageCacheFilter.CACHE_HEADER));
+        assertEquals(2, rendered.get());
+
+        status = HttpServletResponse.SC_OK;
+        cookie = "session=abc";
+        run(get(PATH));
+        assertNull(run(get(PATH)).getHeader(PageCacheFilter.CACHE_HEADER));
+        assertEquals(4, rendered.get());
+
+        cookie = null;
+        MockHttpServletRequest query = get(PATH);
+        query.setQueryString("utm_source=feed");
+        run(query);
+        run(query);
+        assertEquals(6, rendered.get());
+    }
+
+    @Test
+    void aDatasetReloadChangesTheKey() throws Exception {
+        run(get(PATH));
+        assertEquals("HIT", run(get(PATH)).getHeader(PageCacheFilter.CACHE_HEADER));
+
+        writeStocks(4.1);
+        assertTrue(stockDataService.reloadStocks().get().applied());
+
+        MockHttpServletResponse afterReload = run(get(PATH));
+        assertEquals("MISS", afterReload.getHeader(PageCacheFilter.CACHE_HEADER));
+        assertEquals(page(2), afterReload.getContentAsString());
+        assertEquals(2, rendered.get());
+    }
+
+    private static String page(int render) {
+        return "<!DOCTYPE html><html><body>SCHD render " + render + "</body></html>";
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, controller);
+        return response;
+    }
+
+    private void writeStocks(double schdYield) throws IOException {
+        Files.writeString(dataDir.resolve("stocks.json"), """
+                [{"ticker": "SCHD", "name": "Schwab US Dividend Equity ETF", "yield": %s, "sector": "ETF"}]
+                """.formatted(schdYield));
+    }
+}
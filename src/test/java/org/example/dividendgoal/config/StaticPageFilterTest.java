@@ -0,0 +1,135 @@
+package org.example.dividendgoal.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.dividendgoal.prerender.StaticSiteManifest;
+import org.example.dividendgoal.service.StockDataService;
+import org.example.dividendgoal.util.Compression;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StaticPageFilterTest {
+
+    private static final String PATH = "/how-much-dividend/1000-per-month/SCHD";
+    private static final byte[] PAGE = "<!DOCTYPE html><html><body>SCHD</body></html>".repeat(40)
+            .getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path dir;
+
+    private StockDataService stockDataService;
+    private final AtomicInteger rendered = new AtomicInteger();
+    private final FilterChain controller = (request, response) -> {
+        rendered.incrementAndGet();
+        ((HttpServletResponse) response).setStatus(HttpServletResponse.SC_OK);
+    };
+
+    @BeforeEach
+    void loadCatalog() throws IOException {
+        Files.writeString(dir.resolve("stocks.json"), """
+                [{"ticker": "SCHD", "name": "Schwab US Dividend Equity ETF", "yield": 3.8}]
+                """);
+        stockDataService = new StockDataService(new ObjectMapper(), new ConcurrentMapCacheManager(),
+                dir.resolve("stocks.json").toString(), "", false);
+        stockDataService.loadStocks();
+    }
+
+    @AfterEach
+    void stopReloads() {
+        stockDataService.shutdown();
+    }
+
+    @Test
+    void currentPagesAreServedFromDiskWithTheirHeaders() throws Exception {
+        StaticPageFilter filter = site(stockDataService.getCatalog().getVersion(), PAGE.length);
+
+        MockHttpServletResponse raw = run(filter, get(PATH));
+        assertEquals("HIT", raw.getHeader(StaticPageFilter.STATIC_HEADER));
+        assertEquals("text/html;charset=UTF-8", raw.getHeader("Content-Type"));
+        assertNull(raw.getHeader("Content-Encoding"));
+        assertArrayEquals(PAGE, raw.getContentAsByteArray());
+
+        MockHttpServletRequest gzipRequest = get(PATH);
+        gzipRequest.addHeader("Accept-Encoding", "gzip");
+        MockHttpServletResponse gzip = run(filter, gzipRequest);
+        assertEquals("gzip", gzip.getHeader("Content-Encoding"));
+        assertArrayEquals(Compression.gzip(PAGE), gzip.getContentAsByteArray());
+        assertEquals(0, rendered.get());
+    }
+
+    @Test
+    void sendfileHandsTheFileToTheContainer() throws Exception {
+        StaticPageFilter filter = site(stockDataService.getCatalog().getVersion(), PAGE.length);
+        MockHttpServletRequest request = get(PATH);
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+        MockHttpServletResponse response = run(filter, request);
+
+        assertEquals(dir.resolve("site").toAbsolutePath().normalize().resolve(StaticSiteManifest.fileFor(PATH))
+                .toString(), request.getAttribute("org.apache.tomcat.sendfile.filename"));
+        assertEquals((long) PAGE.length, request.getAttribute("org.apache.tomcat.sendfile.end"));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void staleSitesFallThroughToRendering() throws Exception {
+        StaticPageFilter filter = site("rendered-from-an-older-dataset", PAGE.length);
+
+        MockHttpServletResponse response = run(filter, get(PATH));
+
+        assertNull(response.getHeader(StaticPageFilter.STATIC_HEADER));
+        assertEquals(1, rendered.get());
+    }
+
+    @Test
+    void aFileShorterThanItsManifestFailsInsteadOfSpinning() throws Exception {
+        // transferTo returns 0 at end of file; the old loop retried forever
+        StaticPageFilter filter = site(stockDataService.getCatalog().getVersion(), PAGE.length + 100);
+
+        assertThrows(IOException.class, () -> run(filter, get(PATH)));
+    }
+
+    private StaticPageFilter site(String catalogVersion, long declaredBytes) throws IOException {
+        Path site = dir.resolve("site");
+        String file = StaticSiteManifest.fileFor(PATH);
+        Files.createDirectories(site.resolve(file).getParent());
+        Files.write(site.resolve(file), PAGE);
+        byte[] gzip = Compression.gzip(PAGE);
+        Files.write(site.resolve(file + ".gz"), gzip);
+        new StaticSiteManifest(catalogVersion, YearMonth.now().toString(), "2026-01-01T00:00:00Z",
+                List.of(new StaticSiteManifest.Page(PATH, file, "unused", declaredBytes, gzip.length,
+                        Map.of("Content-Type", "text/html;charset=UTF-8"))))
+                .write(site);
+        return new StaticPageFilter(stockDataService, site.toString());
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+
+    private MockHttpServletResponse run(StaticPageFilter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, controller);
+        return response;
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.dividendgoal.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dividendgoal.config.ConditionalGetFilter;
+import org.example.dividendgoal.service.LifestyleService;
+import org.example.dividendgoal.service.StockDataService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdminControllerTest {
+
+    @TempDir
+    Path dataDir;
+
+    private StockDataService stockDataService;
+    private ConditionalGetFilter conditionalGetFilter;
+
+    @BeforeEach
+    void loadCatalog() throws IOException {
+        Files.writeString(dataDir.resolve("stocks.json"), """
+                [{"ticker": "SCHD", "name": "Schwab US Dividend Equity ETF", "yield": 3.8}]
+                """);
+        stockDataService = new StockDataService(new ObjectMapper(), new ConcurrentMapCacheManager(),
+                dataDir.resolve("stocks.json").toString(), "", false);
+        stockDataService.loadStocks();
+        conditionalGetFilter = new ConditionalGetFilter(stockDataService, new LifestyleService());
+    }
+
+    @AfterEach
+    void stopReloads() {
+        stockDataService.shutdown();
+    }
+
+    @Test
+    void endpointsDoNotExistWithoutAConfiguredToken() {
+        AdminController controller = new AdminController(stockDataService, conditionalGetFilter, "");
+
+        assertStatus(HttpStatus.NOT_FOUND, () -> controller.reloadStocks("anything"));
+        assertStatus(HttpStatus.NOT_FOUND, () -> controller.reloadStocks(null));
+        assertStatus(HttpStatus.NOT_FOUND, () -> controller.missingTickers(""));
+        assertStatus(HttpStatus.NOT_FOUND, () -> controller.conditionalGet("anything"));
+    }
+
+    @Test
+    void aMissingOrWrongTokenIsForbidden() {
+        AdminController controller = new AdminController(stockDataService, conditionalGetFilter, "s3cret");
+
+        assertStatus(HttpStatus.FORBIDDEN, () -> controller.reloadStocks(null));
+        assertStatus(HttpStatus.FORBIDDEN, () -> controller.reloadStocks(""));
+        assertStatus(HttpStatus.FORBIDDEN, () -> controller.reloadStocks("s3cret "));
+        assertStatus(HttpStatus.FORBIDDEN, () -> controller.missingTickers("S3CRET"));
+        assertStatus(HttpStatus.FORBIDDEN, () -> controller.conditionalGet("s3c"));
+    }
+
+    @Test
+    void theRightTokenReloads() {
+        AdminController controller = new AdminController(stockDataService, conditionalGetFilter, "s3cret");
+
+        ResponseEntity<StockDataService.ReloadResult> response = controller.reloadStocks("s3cret");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().applied());
+        assertEquals(1, response.getBody().stockCount());
+    }
+
+    private static void assertStatus(HttpStatus expected, Runnable call) {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, call::run);
+        assertEquals(expected, e.getStatusCode());
+    }
+}
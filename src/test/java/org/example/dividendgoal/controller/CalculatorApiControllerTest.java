@@ -0,0 +1,92 @@
+package org.example.dividendgoal.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dividendgoal.service.BatchCalculationService;
+import org.example.dividendgoal.service.DividendCalculationService;
+import org.example.dividendgoal.service.StockDataService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CalculatorApiControllerTest {
+
+    @TempDir
+    Path dataDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StockDataService stockDataService;
+    private CalculatorApiController controller;
+
+    @BeforeEach
+    void loadCatalog() throws IOException {
+        Files.writeString(dataDir.resolve("stocks.json"), """
+                [{"ticker": "SCHD", "name": "Schwab US Dividend Equity ETF", "yield": 4.0, "dividendGrowth": 10.0}]
+                """);
+        stockDataService = new StockDataService(objectMapper, new ConcurrentMapCacheManager(),
+                dataDir.resolve("stocks.json").toString(), "", false);
+        stockDataService.loadStocks();
+        DividendCalculationService calculationService = new DividendCalculationService();
+        // Only the batch endpoint is exercised here
+        controller = new CalculatorApiController(calculationService,
+                new BatchCalculationService(calculationService, stockDataService, objectMapper),
+                null, stockDataService, null, null);
+    }
+
+    @AfterEach
+    void stopReloads() {
+        stockDataService.shutdown();
+    }
+
+    @Test
+    void batchStreamsOneResultPerScenarioIncludingInvalidOnes() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.calculateBatch(body("""
+                [{"ticker": "SCHD", "amount": 1000},
+                 {"ticker": "SCHD", "amount": [1000]},
+                 {"ticker": "SCHD", "amount": 500}]
+                """), response);
+
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, response.getContentType());
+        JsonNode root = objectMapper.readTree(response.getContentAsByteArray());
+        assertEquals(3, root.get("count").asInt());
+        assertEquals(300000.0, root.get("results").get(0).get("requiredInvestment").asDouble(), 0.01);
+        assertEquals("amount must be a number", root.get("results").get(1).get("error").asText());
+        assertEquals(150000.0, root.get("results").get(2).get("requiredInvestment").asDouble(), 0.01);
+    }
+
+    @Test
+    void malformedOrOversizedBatchesAreBadRequests() {
+        String scenario = "{\"ticker\": \"SCHD\", \"amount\": 1000}";
+        String oversized = "[" + String.join(",",
+                Collections.nCopies(BatchCalculationService.MAX_SCENARIOS + 1, scenario)) + "]";
+        for (String body : new String[] { "[{\"ticker\": ", "{\"ticker\": \"SCHD\"}", oversized }) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                    () -> controller.calculateBatch(body(body), response));
+            assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+            assertEquals(0, response.getContentAsByteArray().length);
+        }
+    }
+
+    private static ByteArrayInputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.dividendgoal.prerender;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.dividendgoal.util.Compression;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StaticSiteGeneratorTest {
+
+    @TempDir
+    Path siteDir;
+
+    @Test
+    void pagePathsMapToDirectoryIndexFiles() {
+        assertEquals("index.html", StaticSiteManifest.fileFor("/"));
+        assertEquals("compare/O-vs-SCHD/index.html", StaticSiteManifest.fileFor("/compare/O-vs-SCHD"));
+        assertThrows(IllegalArgumentException.class, () -> StaticSiteManifest.fileFor("/../etc/passwd"));
+    }
+
+    @Test
+    void rendersEveryPathWithHashesAndAReadableManifest() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = ("<html>" + exchange.getRequestURI().getPath() + "</html>").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/html;charset=UTF-8");
+            exchange.getResponseHeaders().set("Cache-Control", "public, max-age=3600");
+            exchange.sendResponseHeaders(exchange.getRequestURI().getPath().startsWith("/missing") ? 404 : 200,
+                    body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        try {
+            URI base = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+            List<String> paths = List.of("/", "/articles", "/compare/KO-vs-PEP");
+
+            StaticSiteManifest written = StaticSiteGenerator.generate(base, paths, "v1", siteDir);
+            StaticSiteManifest manifest = StaticSiteManifest.read(siteDir);
+
+            assertEquals(written, manifest);
+            assertEquals("v1", manifest.catalogVersion());
+            assertEquals(paths, manifest.pages().stream().map(StaticSiteManifest.Page::path).toList());
+            StaticSiteManifest.Page compare = manifest.pages().get(2);
+            byte[] raw = Files.readAllBytes(siteDir.resolve(compare.file()));
+            assertArrayEquals("<html>/compare/KO-vs-PEP</html>".getBytes(StandardCharsets.UTF_8), raw);
+            assertEquals(Compression.sha256Hex(raw), compare.sha256());
+            assertEquals("public, max-age=3600", compare.headers().get("Cache-Control"));
+            try (GZIPInputStream in = new GZIPInputStream(
+                    new ByteArrayInputStream(Files.readAllBytes(siteDir.resolve(compare.gzipFile()))))) {
+                assertArrayEquals(raw, in.readAllBytes());
+            }
+
+            assertThrows(IOException.class,
+                    () -> StaticSiteGenerator.generate(base, List.of("/", "/missing"), "v1", siteDir));
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -70,4 +70,18 @@ class SeoPolicyTest {
         assertTrue(related.stream().anyMatch(spotlight -> "JEPI vs SCHD".equals(spotlight.label())));
         assertTrue(related.stream().allMatch(spotlight -> spotlight.label().contains("SCHD")));
     }
+
+    @Test
+    void indexablePathsCoverTheSitemapSurface() {
+        List<String> paths = SeoPolicy.getIndexablePaths(List.of("SCHD", "VTI", "JEPI", "JEPQ", "KO", "PEP"));
+
+        assertEquals("/", paths.get(0));
+        assertTrue(paths.contains("/articles/what-is-dividend-yield"));
+        assertTrue(paths.contains("/how-much-dividend/1000-per-month/SCHD"));
+        assertTrue(paths.contains("/how-much-dividend/2000-per-month/VTI"));
+        assertTrue(paths.contains("/compare/KO-vs-PEP"));
+        assertTrue(paths.contains("/compare/JEPI-vs-SCHD"));
+        assertFalse(paths.contains("/compare/O-vs-SCHD"));
+        assertEquals(4 + 4 + 4 * 2 + 5, paths.size());
+    }
 }
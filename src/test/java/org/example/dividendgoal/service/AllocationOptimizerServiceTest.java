@@ -0,0 +1,86 @@
+package org.example.dividendgoal.service;
+
+import org.example.dividendgoal.catalog.StockCatalog;
+import org.example.dividendgoal.model.Stock;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AllocationOptimizerServiceTest {
+
+    private final AllocationOptimizerService service = new AllocationOptimizerService(null);
+
+    private final StockCatalog catalog = StockCatalog.of(List.of(
+            stock("ABR", "Mortgage REIT", 12.0, "HIGH", false),
+            stock("MO", "Tobacco", 8.0, "MEDIUM", false),
+            stock("VZ", "Telecom", 7.0, "MEDIUM", true),
+            stock("T", "Telecom", 6.5, "MEDIUM", false),
+            stock("O", "REIT", 5.5, "LOW", false),
+            stock("SCHD", "ETF", 3.5, "LOW", false),
+            stock("KO", "Staples", 3.0, "LOW", false),
+            stock("NOPAY", "Tech", 0.0, "LOW", false)));
+
+    @Test
+    void fillsHighestEligibleYieldsUpToTheCap() {
+        AllocationOptimizerService.Mix mix = service.optimalMix(catalog,
+                new AllocationOptimizerService.Constraints("medium", 25, 100, false));
+
+        assertTrue(mix.feasible());
+        assertEquals(List.of("MO", "VZ", "T", "O"), tickers(mix));
+        assertEquals((8.0 + 7.0 + 6.5 + 5.5) / 4, mix.blendedYield(), 1e-9);
+
+        AllocationOptimizerService.Allocation allocation = mix.allocate(2_000);
+        double expectedCapital = 2_000 / (1 - DividendCalculationService.DIVIDEND_TAX_RATE) * 12 / 0.0675;
+        assertEquals(expectedCapital, allocation.totalCapital(), 1e-6);
+        double gross = allocation.lines().stream()
+                .mapToDouble(AllocationOptimizerService.Allocation.Line::grossMonthlyIncome)
+                .sum();
+        assertEquals(2_000, gross * (1 - DividendCalculationService.DIVIDEND_TAX_RATE), 1e-6);
+    }
+
+    @Test
+    void sectorCapsAndCutFilterAreRespected() {
+        AllocationOptimizerService.Mix mix = service.optimalMix(catalog,
+                new AllocationOptimizerService.Constraints("MEDIUM", 30, 30, true));
+
+        // VZ is excluded for its cut; Telecom is capped at 30%, so T gets it all
+        assertEquals(List.of("MO", "T", "O", "SCHD"), tickers(mix));
+        assertEquals(List.of(30.0, 30.0, 30.0, 10.0), mix.positions().stream()
+                .map(p -> Math.round(p.weight() * 1e6) / 1e6).toList());
+    }
+
+    @Test
+    void reportsInfeasibleCapsAndUnknownRisk() {
+        AllocationOptimizerService.Mix mix = service.optimalMix(catalog,
+                new AllocationOptimizerService.Constraints("LOW", 20, 100, false));
+
+        // Only three paying LOW-risk tickers: 60% at most
+        assertFalse(mix.feasible());
+        assertFalse(mix.allocate(1_000).feasible());
+        assertThrows(IllegalArgumentException.class, () -> service.optimalMix(catalog,
+                new AllocationOptimizerService.Constraints("YOLO", 20, 100, false)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AllocationOptimizerService.Constraints("LOW", 0, 100, false));
+        assertEquals(new AllocationOptimizerService.Constraints("low", 20.04, 150, false),
+                new AllocationOptimizerService.Constraints("LOW", 20.0, 100, false));
+    }
+
+    private static List<String> tickers(AllocationOptimizerService.Mix mix) {
+        return mix.positions().stream().map(AllocationOptimizerService.Position::ticker).toList();
+    }
+
+    private static Stock stock(String ticker, String sector, double yield, String risk, boolean cut) {
+        Stock stock = new Stock();
+        stock.setTicker(ticker);
+        stock.setSector(sector);
+        stock.setYield(yield);
+        stock.setRisk(risk);
+        stock.setDividendCutHistory(cut);
+        return stock;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.dividendgoal.service;
+
+import org.example.dividendgoal.catalog.StockCatalog;
+import org.example.dividendgoal.model.Stock;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BacktestServiceTest {
+
+    private final BacktestService service = new BacktestService(null);
+
+    private final StockCatalog catalog = StockCatalog.of(List.of(
+            stock("SCHD", 4.0, 2015, 1.0, 1.1, 1.2, 1.3, 1.4, 1.5),
+            stock("O", 6.0, 2018, 2.6, 2.7, 2.8)));
+
+    @Test
+    void incomeGrowsWithTheDividendWithoutReinvestment() {
+        BacktestService.Result result = service.backtest(catalog,
+                List.of(new BacktestService.HoldingInput("schd", 12_000)), 2015, null, false);
+
+        BacktestService.Holding holding = result.holdings().get(0);
+        assertEquals(2020, holding.endYear());
+        assertEquals(50, holding.dividendGrowth(), 1e-9);
+        assertEquals(40, holding.startMonthlyIncome(), 1e-9);
+        assertEquals(60, holding.endMonthlyIncome(), 1e-9);
+        assertEquals(18_000, holding.finalValue(), 1e-9);
+        assertEquals(60 * (1 - DividendCalculationService.DIVIDEND_TAX_RATE), result.endMonthlyIncomeAfterTax(),
+                1e-9);
+    }
+
+    @Test
+    void reinvestmentCompoundsAfterTaxDividendsAtTheCurrentYield() {
+        BacktestService.Result result = service.backtest(catalog,
+                List.of(new BacktestService.HoldingInput("SCHD", 10_000)), 2016, 2019, true);
+
+        double expected = 10_000 * (1.4 / 1.1)
+                * Math.pow(1 + 0.04 * (1 - DividendCalculationService.DIVIDEND_TAX_RATE), 3);
+        assertEquals(expected, result.finalValue(), 1e-6);
+        assertEquals(expected * 0.04 / 12, result.endMonthlyIncome(), 1e-9);
+    }
+
+    @Test
+    void portfolioSumsHoldingsAndSkipsUncoveredTickers() {
+        BacktestService.Result result = service.backtest(catalog, List.of(
+                new BacktestService.HoldingInput("SCHD", 6_000),
+                new BacktestService.HoldingInput("O", 4_000),
+                new BacktestService.HoldingInput("NOPE", 1_000)), 2018, null, false);
+
+        // O starts in 2018 and SCHD covers it, so both run to their own last year
+        assertEquals(2, result.holdings().size());
+        assertEquals(List.of("NOPE"), result.skipped());
+        assertEquals(10_000, result.invested(), 1e-9);
+        assertEquals(6_000 * 1.5 / 1.3 + 4_000 * 2.8 / 2.6, result.finalValue(), 1e-9);
+
+        BacktestService.Result early = service.backtest(catalog, List.of(
+                new BacktestService.HoldingInput("SCHD", 6_000),
+                new BacktestService.HoldingInput("O", 4_000)), 2015, null, false);
+        assertEquals(List.of("O"), early.skipped());
+    }
+
+    @Test
+    void rejectsInvalidRequests() {
+        assertThrows(IllegalArgumentException.class, () -> service.backtest(catalog, List.of(), 2015, null, true));
+        assertThrows(IllegalArgumentException.class, () -> service.backtest(catalog,
+                List.of(new BacktestService.HoldingInput("SCHD", -1)), 2015, null, true));
+        assertThrows(IllegalArgumentException.class, () -> service.backtest(catalog,
+                List.of(new BacktestService.HoldingInput("SCHD", 1)), 2019, 2018, true));
+    }
+
+    private static Stock stock(String ticker, double yield, int firstYear, double... dividends) {
+        Stock stock = new Stock();
+        stock.setTicker(ticker);
+        stock.setName(ticker);
+        stock.setYield(yield);
+        List<Stock.DividendRecord> history = new ArrayList<>();
+        for (int i = 0; i < dividends.length; i++) {
+            history.add(new Stock.DividendRecord(firstYear + i, dividends[i]));
+        }
+        stock.setDividendHistory(history);
+        return stock;
+    }
+}
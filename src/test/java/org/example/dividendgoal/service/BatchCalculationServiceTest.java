@@ -0,0 +1,148 @@
+package org.example.dividendgoal.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchCalculationServiceTest {
+
+    @TempDir
+    Path dataDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StockDataService stockDataService;
+    private BatchCalculationService service;
+
+    @BeforeEach
+    void loadCatalog() throws IOException {
+        Files.writeString(dataDir.resolve("stocks.json"), """
+                [
+                  {"ticker": "SCHD", "name": "Schwab US Dividend Equity ETF", "yield": 4.0, "dividendGrowth": 10.0},
+                  {"ticker": "KO", "name": "Coca-Cola", "yield": 3.0, "dividendGrowth": 4.0}
+                ]
+                """);
+        stockDataService = new StockDataService(objectMapper, new ConcurrentMapCacheManager(),
+                dataDir.resolve("stocks.json").toString(), "", false);
+        stockDataService.loadStocks();
+        service = new BatchCalculationService(new DividendCalculationService(), stockDataService, objectMapper);
+    }
+
+    @AfterEach
+    void stopReloads() {
+        stockDataService.shutdown();
+    }
+
+    @Test
+    void scenariosAreEvaluatedAgainstTheCatalog() throws IOException {
+        JsonNode results = run("""
+                [{"ticker": "SCHD", "amount": 1000, "contribution": 500, "horizon": 10, "capital": 30000},
+                 {"ticker": "KO", "amount": "250", "note": {"ignored": [1, 2, 3]}}]
+                """);
+
+        assertEquals(2, results.size());
+        JsonNode schd = results.get(0);
+        assertEquals(300000.0, schd.get("requiredInvestment").asDouble(), 0.01);
+        assertEquals(100.0, schd.get("monthlyIncome").asDouble(), 0.01);
+        assertTrue(schd.has("hypotheticalCapital"));
+        JsonNode ko = results.get(1);
+        assertEquals(100000.0, ko.get("requiredInvestment").asDouble(), 0.01);
+        assertFalse(ko.has("monthlyIncome"));
+    }
+
+    @Test
+    void nestedValuesUnderKnownFieldsAreSkippedAndReported() throws IOException {
+        // Before, the object under "amount" was read as 0 without being consumed and its
+        // inner fields bled into the scenario; the following scenario must be untouched
+        JsonNode results = run("""
+                [{"ticker": "SCHD", "amount": {"ticker": "KO", "amount": 5}, "contribution": 100},
+                 {"ticker": {"nested": true}, "amount": 1000},
+                 {"ticker": "KO", "amount": 1000, "horizon": [10, 20]},
+                 {"ticker": "KO", "amount": 1000}]
+                """);
+
+        assertEquals(4, results.size());
+        assertEquals("SCHD", results.get(0).get("ticker").asText());
+        assertEquals("amount must be a number", results.get(0).get("error").asText());
+        assertFalse(results.get(0).has("requiredInvestment"));
+        assertEquals("ticker must be a string", results.get(1).get("error").asText());
+        assertEquals("horizon must be a number", results.get(2).get("error").asText());
+        assertEquals("KO", results.get(3).get("ticker").asText());
+        assertFalse(results.get(3).has("error"));
+        assertEquals(400000.0, results.get(3).get("requiredInvestment").asDouble(), 0.01);
+    }
+
+    @Test
+    void mixedValidityBatchesKeepEveryRowInOrder() throws IOException {
+        JsonNode results = run("""
+                [{"ticker": "SCHD", "amount": 1000},
+                 {"ticker": "NOPE", "amount": 1000},
+                 {"ticker": "KO", "amount": true},
+                 {"ticker": "KO", "amount": 1000, "horizon": 2.5},
+                 {"ticker": "KO", "amount": 1000, "capital": null},
+                 {"ticker": "SCHD", "amount": 1000, "horizon": 5}]
+                """);
+
+        assertEquals(6, results.size());
+        assertFalse(results.get(0).has("error"));
+        assertEquals("Unknown ticker", results.get(1).get("error").asText());
+        assertEquals("amount must be a number", results.get(2).get("error").asText());
+        assertTrue(results.get(3).get("error").asText().startsWith("horizon must be a whole number"));
+        assertFalse(results.get(4).has("error"));
+        assertFalse(results.get(4).has("monthlyIncome"));
+        assertTrue(results.get(5).has("hypotheticalCapital"));
+    }
+
+    @Test
+    void malformedBodiesFailTheWholeRequest() {
+        for (String body : new String[] {
+                "{\"ticker\": \"SCHD\"}",
+                "[1, 2]",
+                "[{\"ticker\": \"SCHD\", \"amount\": 1000}",
+                "[{\"ticker\": \"SCHD\" \"amount\": 1000}]",
+                "" }) {
+            assertThrows(IllegalArgumentException.class, () -> read(body), body);
+        }
+    }
+
+    @Test
+    void oversizedBatchesAreRejected() throws IOException {
+        String scenario = "{\"ticker\": \"SCHD\", \"amount\": 1000}";
+        String full = "[" + String.join(",", Collections.nCopies(BatchCalculationService.MAX_SCENARIOS,
+                scenario)) + "]";
+        assertEquals(BatchCalculationService.MAX_SCENARIOS, read(full).size());
+
+        String over = full.substring(0, full.length() - 1) + "," + scenario + "]";
+        assertThrows(IllegalArgumentException.class, () -> read(over));
+    }
+
+    private BatchCalculationService.Batch read(String body) throws IOException {
+        return service.read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private JsonNode run(String body) throws IOException {
+        BatchCalculationService.Batch batch = read(body);
+        service.evaluate(batch);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.write(batch, out);
+        JsonNode root = objectMapper.readTree(out.toByteArray());
+        assertEquals(batch.size(), root.get("count").asInt());
+        return root.get("results");
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.dividendgoal.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CapitalGridServiceTest {
+
+    private final DividendCalculationService calculationService = new DividendCalculationService();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CapitalGridService grid = new CapitalGridService(calculationService, objectMapper);
+
+    @Test
+    void gridPointsMatchTheCalculator() {
+        // 4% yield is row 12; $2,000/month is column 19
+        assertEquals(calculationService.calculateRequiredInvestment(2_000, 4.0), grid.requiredCapital(false, 12, 19));
+        assertEquals(calculationService.calculateRequiredInvestmentForNetIncome(2_000, 4.0),
+                grid.requiredCapital(true, 12, 19));
+        assertEquals(calculationService.calculateRequiredInvestment(10_000, 15.0),
+                grid.requiredCapital(false, CapitalGridService.YIELD_COUNT - 1, CapitalGridService.TARGET_COUNT - 1));
+    }
+
+    @Test
+    void payloadIsCompactJsonWithAContentHashEtag() throws Exception {
+        JsonNode json = objectMapper.readTree(grid.getJson());
+
+        assertEquals(CapitalGridService.YIELD_COUNT, json.get("gross").size());
+        assertEquals(CapitalGridService.TARGET_COUNT, json.get("net").get(0).size());
+        assertEquals(600_000, json.get("gross").get(12).get(19).asLong());
+        assertTrue(grid.getJson().length < 128 * 1024, "bytes: " + grid.getJson().length);
+
+        CapitalGridService again = new CapitalGridService(calculationService, objectMapper);
+        assertEquals(grid.getEtag(), again.getEtag());
+        assertEquals("\"" + grid.getVersion() + "\"", grid.getEtag());
+    }
+}
@@ -1,8 +1,13 @@
 package org.example.dividendgoal.service;
 
+import org.example.dividendgoal.catalog.StockCatalog;
+import org.example.dividendgoal.model.Stock;
+import org.example.dividendgoal.model.TimeMachineRow;
 import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -78,4 +83,72 @@ public class DividendCalculationServiceTest {
 
         assertEquals(1000.0, netIncome, 0.01, "Reverse check failed: Net income should be exactly 1000");
     }
+
+    @Test
+    public void testMonthsToFreedom_MatchesIterativeLoop() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            double target = Math.exp(random.nextDouble() * Math.log(1_000_000));
+            double yield = 0.05 + random.nextDouble() * 20;
+            double contribution = random.nextInt(10) == 0 ? 0 : Math.exp(random.nextDouble() * Math.log(50_000));
+
+            int expected = iterativeMonths(target, yield, contribution);
+            int actual = service.monthsToFreedom(target, yield, contribution);
+            if (expected != actual) {
+                // Only a floating-point tie at the boundary month may differ
+                double r = yield / 100.0 / 12.0;
+                double income = contribution * (1 + r) * (Math.pow(1 + r, Math.min(expected, actual)) - 1);
+                assertEquals(1, Math.abs(expected - actual),
+                        "target=" + target + " yield=" + yield + " contribution=" + contribution);
+                assertEquals(target, income, target * 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void testMonthsToFreedom_EdgeCases() {
+        assertEquals(0, service.monthsToFreedom(0, 5.0, 100));
+        assertEquals(0, service.monthsToFreedom(100, 0, 100));
+        assertEquals(DividendCalculationService.MAX_FREEDOM_MONTHS, service.monthsToFreedom(100, 5.0, 0));
+        assertEquals(DividendCalculationService.MAX_FREEDOM_MONTHS, service.monthsToFreedom(100, 5.0, -50));
+        assertEquals(DividendCalculationService.MAX_FREEDOM_MONTHS, service.monthsToFreedom(Double.MAX_VALUE, 5.0, 1));
+        assertEquals(iterativeMonths(1e-9, 1e-9, 1e-9), service.monthsToFreedom(1e-9, 1e-9, 1e-9));
+        // Already reached after the first contribution
+        assertEquals(1, service.monthsToFreedom(1, 12.0, 1_000_000));
+    }
+
+    // The original month-by-month loop, kept as the reference implementation
+    private static int iterativeMonths(double targetMonthlyIncome, double currentYield, double monthlyContribution) {
+        double monthlyYieldRate = currentYield / 100.0 / 12.0;
+        double currentMonthlyIncome = 0.0;
+        double investedCapital = 0.0;
+        int months = 0;
+        while (currentMonthlyIncome < targetMonthlyIncome) {
+            investedCapital += monthlyContribution;
+            investedCapital += investedCapital * monthlyYieldRate;
+            currentMonthlyIncome = investedCapital * monthlyYieldRate;
+            months++;
+            if (months >= DividendCalculationService.MAX_FREEDOM_MONTHS)
+                break;
+        }
+        return months;
+    }
+
+    @Test
+    public void testTimeMachine_MatchesHypotheticalCapital() {
+        Stock stock = new Stock();
+        stock.setTicker("SCHD");
+        stock.setYield(3.6);
+        stock.setDividendGrowth(11.5);
+        StockCatalog catalog = StockCatalog.of(List.of(stock));
+
+        List<TimeMachineRow> rows = service.buildTimeMachine(catalog.getMetrics(), 0, 1000, 400_000, 1, 3, 5, 10, 30);
+
+        assertEquals(5, rows.size());
+        for (TimeMachineRow row : rows) {
+            double expected = service.calculateHypotheticalCapital(1000, 3.6, 11.5, row.getYear());
+            assertEquals(expected, row.getCapital(), expected * 1e-9);
+            assertEquals(400_000 - expected, row.getSaved(), 1e-6);
+        }
+    }
 }
@@ -0,0 +1,123 @@
+package org.example.dividendgoal.service;
+
+import org.example.dividendgoal.model.DripBand;
+import org.example.dividendgoal.model.Stock;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DripMonteCarloServiceTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(2);
+    private static final double TAX = DividendCalculationService.DIVIDEND_TAX_RATE;
+
+    @Test
+    void singleGrowthSampleCollapsesOntoDeterministicProjection() {
+        for (int paymentsPerYear : new int[] { 12, 4, 1 }) {
+            List<DripBand> bands = DripMonteCarloService.simulate(4.0, new double[] { 0.07 }, paymentsPerYear, TAX,
+                    10, 10_000, 42L, POOL);
+            DripProjectionEngine.Schedule schedule = new DripProjectionEngine().project(1.0, 4.0, 7.0,
+                    paymentsPerYear, 0, TAX, 10);
+
+            assertEquals(10, bands.size());
+            for (DripBand band : bands) {
+                double capital = schedule.capital(band.getYear());
+                double income = schedule.monthlyIncome(band.getYear());
+                assertEquals(capital, band.getCapitalP10(), capital * 1e-6);
+                assertEquals(capital, band.getCapitalP50(), capital * 1e-6);
+                assertEquals(capital, band.getCapitalP90(), capital * 1e-6);
+                assertEquals(income, band.getMonthlyIncomeP50(), income * 1e-6);
+            }
+        }
+    }
+
+    @Test
+    void medianTracksTheEngineAtTheHistoricalAverageGrowth() {
+        // Symmetric draws around 6%: the median path sits close to the deterministic 6% schedule
+        double[] growth = { 0.02, 0.04, 0.06, 0.08, 0.10 };
+        List<DripBand> bands = DripMonteCarloService.simulate(3.5, growth, 4, TAX, 10, 20_000, 3L, POOL);
+        DripProjectionEngine.Schedule schedule = new DripProjectionEngine().project(1.0, 3.5, 6.0, 4, 0, TAX, 10);
+
+        DripBand year10 = bands.get(9);
+        assertEquals(schedule.capital(10), year10.getCapitalP50(), schedule.capital(10) * 0.01);
+        assertTrue(year10.getCapitalP10() < schedule.capital(10));
+        assertTrue(year10.getCapitalP90() > schedule.capital(10));
+    }
+
+    @Test
+    void bandsAreOrderedAndReproducible() {
+        double[] growth = { 0.10, 0.05, 0.0, -0.25, 0.08, 0.12 };
+        List<DripBand> first = DripMonteCarloService.simulate(5.0, growth, 4, TAX, 15, 20_000, 7L, POOL);
+        List<DripBand> second = DripMonteCarloService.simulate(5.0, growth, 4, TAX, 15, 20_000, 7L, POOL);
+
+        for (int k = 0; k < first.size(); k++) {
+            DripBand band = first.get(k);
+            assertTrue(band.getCapitalP10() < band.getCapitalP50());
+            assertTrue(band.getCapitalP50() < band.getCapitalP90());
+            assertTrue(band.getMonthlyIncomeP10() <= band.getMonthlyIncomeP90());
+            assertEquals(band.getCapitalP50(), second.get(k).getCapitalP50());
+            assertEquals(band.getMonthlyIncomeP90(), second.get(k).getMonthlyIncomeP90());
+        }
+        // Uncertainty widens with the horizon
+        DripBand year1 = first.get(0);
+        DripBand year15 = first.get(14);
+        assertTrue(year15.getCapitalP90() / year15.getCapitalP10() > year1.getCapitalP90() / year1.getCapitalP10());
+    }
+
+    @Test
+    void reservoirPercentilesTrackTheExactOnesWhateverThePathCount() {
+        double[] growth = { 0.10, 0.05, 0.0, -0.25, 0.08, 0.12 };
+        List<DripBand> bands = DripMonteCarloService.simulate(5.0, growth, 4, TAX, 20, 100_000, 11L, POOL);
+        List<DripBand> fewer = DripMonteCarloService.simulate(5.0, growth, 4, TAX, 20, 10_000, 11L, POOL);
+
+        // 98 leaves share the same 4096-value reservoir as 10 leaves; the bands still agree closely
+        for (int k = 0; k < bands.size(); k++) {
+            DripBand band = bands.get(k);
+            DripBand other = fewer.get(k);
+            assertEquals(band.getCapitalP10(), other.getCapitalP10(), band.getCapitalP10() * 0.02);
+            assertEquals(band.getCapitalP50(), other.getCapitalP50(), band.getCapitalP50() * 0.02);
+            assertEquals(band.getCapitalP90(), other.getCapitalP90(), band.getCapitalP90() * 0.02);
+        }
+    }
+
+    @Test
+    void simulateUnitCoversTheFullHorizonForEveryCaller() {
+        DripMonteCarloService service = new DripMonteCarloService(10_000, 1, 1);
+        try {
+            Stock stock = new Stock();
+            stock.setTicker("SCHD");
+            stock.setYield(3.5);
+            stock.setDividendGrowth(7.0);
+
+            List<DripBand> bands = service.simulateUnit(stock);
+
+            assertEquals(DripMonteCarloService.MAX_YEARS, bands.size());
+            assertEquals(1, bands.get(0).getYear());
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void growthSamplesComeFromConsecutiveHistoryYears() {
+        Stock stock = new Stock();
+        stock.setDividendGrowth(6.0);
+        stock.setDividendHistory(List.of(record(2024, 1.10), record(2021, 1.00), record(2022, 1.00),
+                record(2023, 0.50), record(2019, 0.80)));
+
+        // 2019 -> 2021 skips a year and is ignored; order in the source does not matter
+        assertArrayEquals(new double[] { 0.0, -0.5, 1.0 }, DripMonteCarloService.growthSamples(stock), 1e-9);
+
+        stock.setDividendHistory(List.of(record(2023, 1.0), record(2024, 1.1)));
+        assertArrayEquals(new double[] { 0.06 }, DripMonteCarloService.growthSamples(stock), 1e-9);
+    }
+
+    private static Stock.DividendRecord record(int year, double dividendPerShare) {
+        return new Stock.DividendRecord(year, dividendPerShare);
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.dividendgoal.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DripProjectionEngineTest {
+
+    private final DripProjectionEngine engine = new DripProjectionEngine();
+
+    @Test
+    void annualPaymentsWithoutTaxOrGrowthMatchTheOldCompounding() {
+        DripProjectionEngine.Schedule schedule = engine.project(10_000, 5.0, 0, 1, 0, 0, 10);
+
+        for (int year = 0; year <= 10; year++) {
+            double expected = 10_000 * Math.pow(1.05, year);
+            assertEquals(expected, schedule.capital(year), 1e-6);
+            assertEquals(expected * 0.05 / 12, schedule.monthlyIncome(year), 1e-6);
+        }
+        assertEquals(10_000, schedule.contributed(10), 1e-9);
+    }
+
+    @Test
+    void contributionsTaxAndGrowthAreAppliedMonthByMonth() {
+        DripProjectionEngine.Schedule schedule = engine.project(0, 12.0, 0, 12, 100, 0.5, 1);
+
+        // Monthly: deposit 100, then receive 12%/12 of the balance, half of it after tax
+        double capital = 0;
+        for (int month = 0; month < 12; month++) {
+            capital = (capital + 100) * 1.005;
+        }
+        assertEquals(capital, schedule.capital(1), 1e-9);
+        assertEquals(1_200, schedule.contributed(1), 1e-9);
+        assertEquals(capital - 1_200, schedule.dividends(1), 1e-9);
+
+        DripProjectionEngine.Schedule flat = new DripProjectionEngine.Schedule();
+        DripProjectionEngine.Schedule growing = new DripProjectionEngine.Schedule();
+        engine.project(10_000, 4.0, 0, 4, 0, 0.154, 20, flat);
+        engine.project(10_000, 4.0, 8.0, 4, 0, 0.154, 20, growing);
+        assertTrue(growing.capital(20) > flat.capital(20));
+        // Yield on the position doubles in ~9 years at 8% growth
+        assertTrue(growing.monthlyIncome(20) / growing.capital(20) > 4 * flat.monthlyIncome(20) / flat.capital(20));
+    }
+
+    @Test
+    void threadBufferIsReusedAndHorizonIsBounded() {
+        DripProjectionEngine.Schedule first = engine.project(1_000, 3.0, 5.0, 4, 0, 0, 50);
+        DripProjectionEngine.Schedule second = engine.project(2_000, 3.0, 5.0, 4, 0, 0, 5);
+        assertSame(first, second);
+        assertEquals(5, second.getYears());
+
+        assertThrows(IllegalArgumentException.class, () -> engine.project(1_000, 3.0, 0, 4, 0, 0, 51));
+        assertThrows(IllegalArgumentException.class, () -> engine.project(1_000, 3.0, 0, 5, 0, 0, 10));
+    }
+
+    @Test
+    void paymentsPerYearFollowsStockFrequency() {
+        assertEquals(12, DripProjectionEngine.paymentsPerYear("MONTHLY"));
+        assertEquals(4, DripProjectionEngine.paymentsPerYear("Quarterly"));
+        assertEquals(2, DripProjectionEngine.paymentsPerYear("semi-annual"));
+        assertEquals(1, DripProjectionEngine.paymentsPerYear("ANNUAL"));
+        assertEquals(4, DripProjectionEngine.paymentsPerYear(null));
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.dividendgoal.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GoalSeekServiceTest {
+
+    private final DripProjectionEngine engine = new DripProjectionEngine();
+    private final GoalSeekService service = new GoalSeekService(engine);
+
+    @Test
+    void solvedContributionReachesTheTargetToTheCent() {
+        for (int years : new int[] { 1, 5, 10, 15, 20 }) {
+            GoalSeekService.Goal goal = new GoalSeekService.Goal(3.8, 6.5, 4, 2_000, years, 1_000);
+            GoalSeekService.Solution solution = service.solve(goal);
+
+            assertTrue(solution.reachable());
+            assertTrue(solution.evaluations() <= 30, "evaluations: " + solution.evaluations());
+            double reached = income(goal, solution.monthlyContribution());
+            double justBelow = income(goal, solution.monthlyContribution() - 0.01);
+            assertTrue(reached >= 2_000 && justBelow < 2_000, "years " + years + ": " + reached);
+            assertEquals(reached, solution.projectedMonthlyIncome(), 1e-9);
+        }
+    }
+
+    @Test
+    void nothingToAddWhenTheStartingCapitalAlreadyGetsThere() {
+        GoalSeekService.Solution solution = service.solve(new GoalSeekService.Goal(5.0, 0, 12, 100, 10, 100_000));
+
+        assertTrue(solution.reachable());
+        assertEquals(0.0, solution.monthlyContribution());
+    }
+
+    @Test
+    void zeroYieldIsUnreachable() {
+        GoalSeekService.Solution solution = service.solve(new GoalSeekService.Goal(0, 0, 4, 1_000, 10, 0));
+
+        assertFalse(solution.reachable());
+        assertTrue(Double.isNaN(solution.monthlyContribution()));
+    }
+
+    @Test
+    void goalsAreQuantizedForCaching() {
+        assertEquals(new GoalSeekService.Goal(3.801, 6.499, 4, 1_999.6, 10, 10_000.4),
+                new GoalSeekService.Goal(3.8, 6.5, 4, 2_000, 10, 10_000));
+    }
+
+    private double income(GoalSeekService.Goal goal, double contribution) {
+        return engine.project(goal.startingCapital(), goal.yieldPercentage(), goal.growthPercentage(),
+                goal.paymentsPerYear(), contribution, DividendCalculationService.DIVIDEND_TAX_RATE, goal.years())
+                .monthlyIncome(goal.years());
+    }
+}
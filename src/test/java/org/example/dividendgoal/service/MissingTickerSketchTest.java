@@ -0,0 +1,46 @@
+package org.example.dividendgoal.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MissingTickerSketchTest {
+
+    @Test
+    void heavyHittersSurviveRandomTickerSpray() {
+        MissingTickerSketch sketch = new MissingTickerSketch(64, 4);
+        for (int i = 0; i < 100_000; i++) {
+            sketch.record("BOT" + i);
+            if (i % 10 == 0) {
+                sketch.record("VOO");
+            }
+            if (i % 20 == 0) {
+                sketch.record("BRK.B");
+            }
+        }
+
+        List<MissingTickerSketch.Entry> top = sketch.top(Integer.MAX_VALUE);
+        assertTrue(top.size() <= 64);
+        assertEquals(100_000 + 10_000 + 5_000, sketch.totalHits());
+
+        MissingTickerSketch.Entry voo = top.stream().filter(e -> e.key().equals("VOO")).findFirst().orElseThrow();
+        // Space-Saving never underestimates, and count - error never overestimates
+        assertTrue(voo.count() >= 10_000);
+        assertTrue(voo.count() - voo.error() <= 10_000);
+        assertTrue(top.stream().anyMatch(e -> e.key().equals("BRK.B")));
+    }
+
+    @Test
+    void exactWhileUnderCapacity() {
+        MissingTickerSketch sketch = new MissingTickerSketch(16, 2);
+        sketch.record("VOO");
+        sketch.record("VOO");
+        sketch.record("QQQM");
+
+        List<MissingTickerSketch.Entry> top = sketch.top(1);
+        assertEquals(List.of(new MissingTickerSketch.Entry("VOO", 2, 0)), top);
+    }
+}
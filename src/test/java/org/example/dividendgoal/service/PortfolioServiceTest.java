@@ -0,0 +1,98 @@
+package org.example.dividendgoal.service;
+
+import org.example.dividendgoal.catalog.StockCatalog;
+import org.example.dividendgoal.model.Stock;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PortfolioServiceTest {
+
+    private final DripProjectionEngine engine = new DripProjectionEngine();
+    private final PortfolioService service = new PortfolioService(null, engine);
+
+    private final StockCatalog catalog = StockCatalog.of(List.of(
+            stock("O", "MONTHLY", 6.0, 3.0),
+            stock("SCHD", "QUARTERLY", 4.0, 10.0),
+            stock("XYZ", "ANNUAL", 2.0, 0.0)));
+
+    @Test
+    void calendarFollowsEachHoldingsPaymentFrequency() {
+        PortfolioService.Result result = service.simulate(catalog, List.of(
+                new PortfolioService.HoldingInput("o", 12_000.0, null),
+                new PortfolioService.HoldingInput("SCHD", null, 75.0),
+                new PortfolioService.HoldingInput("XYZ", null, 25.0),
+                new PortfolioService.HoldingInput("NOPE", 1_000.0, null)), 112_000, 5);
+
+        // O: 720/yr monthly; SCHD: 3,600 of the 75,000 weighted, quarterly; XYZ: 500 of 25,000 in December
+        double[] expected = new double[12];
+        for (int month = 0; month < 12; month++) {
+            expected[month] = 60 + (month % 3 == 2 ? 750 : 0) + (month == 11 ? 500 : 0);
+        }
+        assertArrayEquals(expected, result.monthlyCalendar(), 1e-9);
+        assertEquals(112_000, result.totalCapital(), 1e-9);
+        assertEquals(4_220, result.annualIncome(), 1e-9);
+        assertEquals(4_220 / 112_000.0 * 100, result.yield(), 1e-9);
+        assertEquals((12_000 * 3.0 + 75_000 * 10.0) / 112_000, result.weightedGrowth(), 1e-9);
+        assertEquals(List.of("NOPE"), result.unknownTickers());
+        assertEquals(3, result.holdings().size());
+    }
+
+    @Test
+    void dripIsTheSumOfEachHoldingsSchedule() {
+        PortfolioService.Result result = service.simulate(catalog, List.of(
+                new PortfolioService.HoldingInput("O", 10_000.0, null),
+                new PortfolioService.HoldingInput("SCHD", 20_000.0, null)), 0, 10);
+
+        double o = engine.project(10_000, 6.0, 3.0, 12, 0, DividendCalculationService.DIVIDEND_TAX_RATE, 10)
+                .capital(10);
+        double schd = engine.project(20_000, 4.0, 10.0, 4, 0, DividendCalculationService.DIVIDEND_TAX_RATE, 10)
+                .capital(10);
+        assertEquals(10, result.drip().size());
+        assertEquals(o + schd, result.drip().get(9).getEstimatedCapital(), 1e-6);
+    }
+
+    @Test
+    void largePortfoliosMergeToTheSameTotals() {
+        List<PortfolioService.HoldingInput> holdings = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            holdings.add(new PortfolioService.HoldingInput(i % 2 == 0 ? "O" : "SCHD", 1_000.0 + i, null));
+        }
+        PortfolioService.Result result = service.simulate(catalog, holdings, 0, 30);
+
+        double oCapital = 0;
+        double schdCapital = 0;
+        for (int i = 0; i < 500; i++) {
+            if (i % 2 == 0) {
+                oCapital += 1_000.0 + i;
+            } else {
+                schdCapital += 1_000.0 + i;
+            }
+        }
+        assertEquals(oCapital * 0.06 / 12 + schdCapital * 0.04 / 4, result.monthlyCalendar()[2], 1e-6);
+        assertEquals(oCapital * 0.06 / 12, result.monthlyCalendar()[0], 1e-6);
+    }
+
+    @Test
+    void rejectsEmptyPortfoliosAndBadHorizons() {
+        assertThrows(IllegalArgumentException.class, () -> service.simulate(catalog, List.of(), 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> service.simulate(catalog,
+                List.of(new PortfolioService.HoldingInput("O", 1.0, null)), 0, 31));
+        assertThrows(IllegalArgumentException.class, () -> service.simulate(catalog,
+                List.of(new PortfolioService.HoldingInput("O", -1.0, null)), 0, 10));
+    }
+
+    private static Stock stock(String ticker, String frequency, double yield, double growth) {
+        Stock stock = new Stock();
+        stock.setTicker(ticker);
+        stock.setFrequency(frequency);
+        stock.setYield(yield);
+        stock.setDividendGrowth(growth);
+        return stock;
+    }
+}
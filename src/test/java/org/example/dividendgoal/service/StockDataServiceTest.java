@@ -0,0 +1,232 @@
+package org.example.dividendgoal.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dividendgoal.catalog.StockCatalog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StockDataServiceTest {
+
+    @TempDir
+    Path dataDir;
+
+    private final CountingCacheManager cacheManager = new CountingCacheManager();
+    private StockDataService service;
+
+    @BeforeEach
+    void loadCatalog() throws IOException {
+        writeStocks("""
+                [{"ticker": "SCHD", "name": "Schwab US Dividend Equity ETF", "yield": 3.8},
+                 {"ticker": "KO", "name": "Coca-Cola", "yield": 3.0}]
+                """);
+        service = new StockDataService(new ObjectMapper(), cacheManager, dataDir.resolve("stocks.json").toString(),
+                "", false);
+        service.loadStocks();
+    }
+
+    @AfterEach
+    void stopReloads() {
+        service.shutdown();
+    }
+
+    @Test
+    void reloadSwapsInANewCatalogAndLeavesTheOldOneIntact() throws Exception {
+        StockCatalog before = service.getCatalog();
+
+        writeStocks("""
+                [{"ticker": "SCHD", "name": "Schwab US Dividend Equity ETF", "yield": 4.1},
+                 {"ticker": "KO", "name": "Coca-Cola", "yield": 3.0},
+                 {"ticker": "PEP", "name": "PepsiCo", "yield": 3.4}]
+                """);
+        StockDataService.ReloadResult result = service.reloadStocks().get();
+
+        assertTrue(result.applied());
+        assertEquals(3, result.stockCount());
+        StockCatalog after = service.getCatalog();
+        assertNotSame(before, after);
+        assertEquals(result.version(), after.getVersion());
+        assertNotEquals(before.getVersion(), after.getVersion());
+        assertEquals(4.1, after.find("SCHD").orElseThrow().getYield());
+        // A request still holding the previous snapshot sees it unchanged
+        assertEquals(2, before.size());
+        assertEquals(3.8, before.find("SCHD").orElseThrow().getYield());
+        assertEquals(after.getVersion(), service.getCatalogJson().catalogVersion());
+    }
+
+    @Test
+    void publishingClearsEveryDatasetCache() throws Exception {
+        Cache cache = cacheManager.getCache("stockDetails");
+        cache.put("SCHD", "stale");
+
+        assertTrue(service.reloadStocks().get().applied());
+
+        assertNull(cache.get("SCHD"));
+    }
+
+    @Test
+    void rejectedReloadKeepsTheCurrentCatalogAndReportsWhatWasRejected() throws Exception {
+        StockCatalog before = service.getCatalog();
+        int clears = cacheManager.clears.get();
+
+        writeStocks("""
+                [{"name": "No ticker", "yield": 3.0},
+                 {"ticker": "BAD", "yield": "not a number"},
+                 7]
+                """);
+        StockDataService.ReloadResult result = service.reloadStocks().get();
+
+        assertFalse(result.applied());
+        assertEquals(3, result.rejectedRecords());
+        assertEquals(3, result.errors().size());
+        assertEquals(2, result.stockCount());
+        assertEquals(before.getVersion(), result.version());
+        assertSame(before, service.getCatalog());
+        assertEquals(clears, cacheManager.clears.get());
+
+        writeStocks("[{\"ticker\": \"SCHD\", \"yield\": 3.8}, {\"ticker\": ");
+        StockDataService.ReloadResult unreadable = service.reloadStocks().get();
+        assertFalse(unreadable.applied());
+        assertSame(before, service.getCatalog());
+    }
+
+    @Test
+    void aCatalogThatFailsToBuildIsRejectedAtBootAndOnReload() throws Exception {
+        // Serializing the catalog JSON fails on demand, after records have passed validation
+        AtomicBoolean failBuild = new AtomicBoolean();
+        JsonFactory factory = new JsonFactory() {
+            @Override
+            public JsonGenerator createGenerator(OutputStream out) throws IOException {
+                if (failBuild.get()) {
+                    throw new IOException("generator unavailable");
+                }
+                return super.createGenerator(out);
+            }
+        };
+        StockDataService failing = new StockDataService(new ObjectMapper(factory), cacheManager,
+                dataDir.resolve("stocks.json").toString(), "", false);
+        try {
+            failBuild.set(true);
+            // Boot keeps serving the empty catalog instead of failing startup
+            failing.loadStocks();
+            assertEquals(0, failing.getCatalog().size());
+
+            failBuild.set(false);
+            assertTrue(failing.reloadStocks().get().applied());
+            StockCatalog before = failing.getCatalog();
+            int clears = cacheManager.clears.get();
+
+            failBuild.set(true);
+            StockDataService.ReloadResult result = failing.reloadStocks().get();
+
+            assertFalse(result.applied());
+            assertEquals(before.getVersion(), result.version());
+            assertTrue(result.errors().get(0).startsWith("Catalog build failed"));
+            assertSame(before, failing.getCatalog());
+            assertEquals(before.getVersion(), failing.getCatalogJson().catalogVersion());
+            assertEquals(clears, cacheManager.clears.get());
+        } finally {
+            failing.shutdown();
+        }
+    }
+
+    @Test
+    void aBurstOfFileEventsTriggersOneReload() throws Exception {
+        int clears = cacheManager.clears.get();
+
+        for (int k = 0; k < 5; k++) {
+            service.scheduleWatchReload();
+        }
+        // Past the 500 ms debounce; the reload thread is single, so this queues behind it
+        Thread.sleep(1_000);
+        service.reloadStocks().get();
+
+        // One coalesced watch reload plus the explicit one
+        assertEquals(clears + 2, cacheManager.clears.get());
+    }
+
+    private void writeStocks(String json) throws IOException {
+        Files.writeString(dataDir.resolve("stocks.json"), json);
+    }
+
+    // Counts publishes: every applied reload clears each cache exactly once
+    private static final class CountingCacheManager implements CacheManager {
+        private final ConcurrentMapCacheManager delegate = new ConcurrentMapCacheManager("stockDetails");
+        private final AtomicInteger clears = new AtomicInteger();
+
+        @Override
+        public Cache getCache(String name) {
+            Cache cache = delegate.getCache(name);
+            return cache == null ? null : new Cache() {
+                @Override
+                public String getName() {
+                    return cache.getName();
+                }
+
+                @Override
+                public Object getNativeCache() {
+                    return cache.getNativeCache();
+                }
+
+                @Override
+                public ValueWrapper get(Object key) {
+                    return cache.get(key);
+                }
+
+                @Override
+                public <T> T get(Object key, Class<T> type) {
+                    return cache.get(key, type);
+                }
+
+                @Override
+                public <T> T get(Object key, Callable<T> valueLoader) {
+                    return cache.get(key, valueLoader);
+                }
+
+                @Override
+                public void put(Object key, Object value) {
+                    cache.put(key, value);
+                }
+
+                @Override
+                public void evict(Object key) {
+                    cache.evict(key);
+                }
+
+                @Override
+                public void clear() {
+                    clears.incrementAndGet();
+                    cache.clear();
+                }
+            };
+        }
+
+        @Override
+        public Collection<String> getCacheNames() {
+            return delegate.getCacheNames();
+        }
+    }
+}
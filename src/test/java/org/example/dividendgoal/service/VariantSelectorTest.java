@@ -0,0 +1,43 @@
+package org.example.dividendgoal.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VariantSelectorTest {
+
+    private static final String URL = "https://example.com/how-much-dividend/1000-per-month/SCHD";
+
+    @Test
+    void sameUrlAndMonthAlwaysPickTheSameVariant() {
+        YearMonth month = YearMonth.of(2026, 3);
+        int first = VariantSelector.index(URL, month, 4);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first, VariantSelector.index(URL, month, 4));
+        }
+    }
+
+    @Test
+    void variantsSpreadAcrossUrlsAndRotateWithTheMonth() {
+        int[] counts = new int[4];
+        for (int amount = 1; amount <= 4000; amount++) {
+            counts[VariantSelector.index("/how-much-dividend/" + amount + "-per-month/SCHD",
+                    YearMonth.of(2026, 3), 4)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 800 && count < 1200, "count " + count);
+        }
+
+        Set<Integer> picks = new HashSet<>();
+        for (int month = 1; month <= 12; month++) {
+            picks.add(VariantSelector.index(URL, YearMonth.of(2026, month), 4));
+        }
+        assertTrue(picks.size() > 1);
+    }
+}
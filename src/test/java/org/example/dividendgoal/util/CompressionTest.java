@@ -0,0 +1,54 @@
+package org.example.dividendgoal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressionTest {
+
+    @Test
+    void sha256HexMatchesTheStandardTestVector() {
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                Compression.sha256Hex("abc".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    void gzipBodyInflatesToTheRawPage() throws IOException {
+        byte[] raw = String.join("\n", List.of("<!DOCTYPE html>", "<html>", "<body>SCHD pays $1,000/month</body>",
+                "</html>")).repeat(200).getBytes(StandardCharsets.UTF_8);
+
+        byte[] gzip = Compression.gzip(raw);
+
+        assertTrue(gzip.length < raw.length / 10);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertArrayEquals(raw, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void acceptsGzipHonoursQualityValues() {
+        assertTrue(Compression.acceptsGzip("gzip, deflate, br"));
+        assertTrue(Compression.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(Compression.acceptsGzip("x-gzip"));
+        assertTrue(Compression.acceptsGzip("*"));
+        assertTrue(Compression.acceptsGzip("br, *;q=0.1"));
+
+        assertFalse(Compression.acceptsGzip(null));
+        assertFalse(Compression.acceptsGzip(""));
+        assertFalse(Compression.acceptsGzip("identity"));
+        assertFalse(Compression.acceptsGzip("gzip;q=0"));
+        assertFalse(Compression.acceptsGzip("gzip; q=0.000"));
+        assertFalse(Compression.acceptsGzip("gzip;q=0, *"));
+        assertFalse(Compression.acceptsGzip("*;q=0"));
+        assertFalse(Compression.acceptsGzip("gzip;q=nope"));
+    }
+}